@@ -0,0 +1,48 @@
+package com.dialog.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.dialog.DialogBackendApplication;
+
+/**
+ * 벤치마크용 스프링 컨텍스트 기동 헬퍼
+ * - 기본은 웹 서버 없이 H2 데이터소스로 애플리케이션 빈만 띄우고, startWeb 은 임의 포트로 Tomcat 까지 띄운다
+ * - 커맨드라인 인자로 넘기므로 application.yml 설정보다 우선한다
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String jdbcUrl, String... extraArgs) {
+        return run(jdbcUrl, List.of("--spring.main.web-application-type=none"), extraArgs);
+    }
+
+    // 포트는 local.server.port 프로퍼티로 확인
+    static ConfigurableApplicationContext startWeb(String jdbcUrl, String... extraArgs) {
+        return run(jdbcUrl, List.of("--spring.main.web-application-type=servlet", "--server.port=0"), extraArgs);
+    }
+
+    private static ConfigurableApplicationContext run(String jdbcUrl, List<String> webArgs, String... extraArgs) {
+        List<String> args = new ArrayList<>(webArgs);
+        args.addAll(List.of(
+                "--spring.main.banner-mode=off",
+                "--spring.profiles.active=benchmark",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.flyway.enabled=false", // 벤치마크는 ddl-auto 로 스키마를 직접 만든다
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.security.oauth2.client.registration.google.client-id=benchmark",
+                "--spring.security.oauth2.client.registration.kakao.client-id=benchmark",
+                "--dialog.token.purge.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(DialogBackendApplication.class).run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,79 @@
+package com.dialog.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.token.service.RefreshTokenService;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+/**
+ * 리프레시 토큰 대량 발급 처리량 (초당 INSERT 수, 임베디드 H2)
+ * - 한 트랜잭션에서 BATCH 개를 발급하고 커밋: 결과 ops/s 가 곧 inserts/sec
+ * - batchSize=1 은 JDBC 배치를 끈 상태(행마다 왕복, IDENTITY 시절과 같은 실행 형태), 50 은 기본 설정
+ * - IDENTITY 기준선은 이 커밋 이전 트리에서 같은 벤치마크를 돌려 비교한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkTokenIssueBenchmark {
+
+    private static final int BATCH = 1_000;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private RefreshTokenService refreshTokenService;
+    private TransactionTemplate transactionTemplate;
+    private MeetUser user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("jdbc:h2:mem:bulk-issue-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        refreshTokenService = context.getBean(RefreshTokenService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        user = context.getBean(MeetUserRepository.class).save(MeetUser.builder()
+                .email("bulk@dialog.com")
+                .password("{noop}benchmark")
+                .name("bulk")
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void issue() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < BATCH; i++) {
+                refreshTokenService.createRefreshToken(user);
+            }
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package com.dialog.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+/**
+ * MeetUserRepository 조회 (행 수별)
+ * - H2 파일 DB(build/jmh-db)에 행 수별로 한 번만 적재하고 이후 실행에서는 재사용한다
+ * - 10M 행 최초 적재는 수십 분 걸릴 수 있다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeetUserRepositoryBenchmark {
+
+    private static final int SEED_CHUNK = 5_000;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private MeetUserRepository meetUserRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("jdbc:h2:file:./build/jmh-db/users-" + rows + ";MODE=MySQL",
+                "--spring.jpa.hibernate.ddl-auto=update");
+        meetUserRepository = context.getBean(MeetUserRepository.class);
+        seed(context.getBean(TransactionTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 부족한 행만 청크 단위 트랜잭션으로 적재
+    private void seed(TransactionTemplate transactionTemplate) {
+        long existing = meetUserRepository.count();
+        for (long start = existing; start < rows; start += SEED_CHUNK) {
+            long from = start;
+            long to = Math.min(rows, start + SEED_CHUNK);
+            transactionTemplate.executeWithoutResult(status -> {
+                List<MeetUser> chunk = new ArrayList<>(SEED_CHUNK);
+                for (long i = from; i < to; i++) {
+                    chunk.add(MeetUser.builder()
+                            .email(email(i))
+                            .password("{noop}benchmark")
+                            .name("user" + i)
+                            .socialType("google")
+                            .snsId(snsId(i))
+                            .build());
+                }
+                meetUserRepository.saveAll(chunk);
+            });
+        }
+    }
+
+    @Benchmark
+    public Optional<MeetUser> findByEmail() {
+        return meetUserRepository.findByEmail(email(randomRow()));
+    }
+
+    @Benchmark
+    public boolean existsByEmailHit() {
+        return meetUserRepository.existsByEmail(email(randomRow()));
+    }
+
+    @Benchmark
+    public boolean existsByEmailMiss() {
+        return meetUserRepository.existsByEmail("missing-" + randomRow() + "@dialog.com");
+    }
+
+    @Benchmark
+    public Optional<MeetUser> findBySnsId() {
+        return meetUserRepository.findBySnsId(snsId(randomRow()));
+    }
+
+    private long randomRow() {
+        return ThreadLocalRandom.current().nextInt(rows);
+    }
+
+    private static String email(long i) {
+        return "user" + i + "@dialog.com";
+    }
+
+    private static String snsId(long i) {
+        return "sns-" + i;
+    }
+}
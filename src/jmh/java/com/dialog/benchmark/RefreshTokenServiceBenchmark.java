@@ -0,0 +1,102 @@
+package com.dialog.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.service.RefreshTokenService;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+/**
+ * RefreshTokenServiceImpl 생성/검증/폐기 (임베디드 H2)
+ * - cacheSize=0 은 검증 캐시를 끈 상태(매번 저장소 조회)
+ * - store=jpa 는 refresh_token 테이블, mmap 은 로컬 메모리 맵 파일 저장소 (build/jmh-tokens)
+ * - mmap 파일은 트라이얼마다 지우고 시작 (이전 실행에서 쌓인 레코드가 재적재 비용과 파일 크기를 바꾸지 않도록)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RefreshTokenServiceBenchmark {
+
+    @Param({"0", "100000"})
+    public long cacheSize;
+
+    @Param({"jpa", "mmap"})
+    public String store;
+
+    private ConfigurableApplicationContext context;
+    private RefreshTokenService refreshTokenService;
+    private MeetUser user;
+    private String validToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path mmapDir = Path.of("build", "jmh-tokens", Long.toString(cacheSize));
+        FileSystemUtils.deleteRecursively(mmapDir);
+        context = BenchmarkContext.start("jdbc:h2:mem:token-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--dialog.token.cache.max-size=" + cacheSize,
+                "--dialog.token.store.type=" + store,
+                "--dialog.token.store.mmap.dir=" + mmapDir);
+        refreshTokenService = context.getBean(RefreshTokenService.class);
+        user = context.getBean(MeetUserRepository.class).save(MeetUser.builder()
+                .email("bench@dialog.com")
+                .password("{noop}benchmark")
+                .name("benchmark")
+                .build());
+        validToken = refreshTokenService.createRefreshToken(user).getRefreshToken();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public RefreshToken create() {
+        return refreshTokenService.createRefreshToken(user);
+    }
+
+    @Benchmark
+    public RefreshToken verify() {
+        return refreshTokenService.verifyTokenValidity(validToken);
+    }
+
+    @Benchmark
+    public int revoke(RevokeTarget target) {
+        return refreshTokenService.revokeToken(target.token);
+    }
+
+    // 폐기 벤치마크마다 새 토큰 (발급 시간은 측정에서 제외)
+    @State(Scope.Thread)
+    public static class RevokeTarget {
+
+        String token;
+
+        @Setup(Level.Invocation)
+        public void issue(RefreshTokenServiceBenchmark benchmark) {
+            token = benchmark.refreshTokenService.createRefreshToken(benchmark.user).getRefreshToken();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.dialog.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.token.service.RefreshTokenService;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+/**
+ * 리프레시 토큰 회전 API 에 동시 클라이언트 clients 개가 한꺼번에 요청할 때 전체 처리 시간 (Tomcat + 임베디드 H2)
+ * - threads=platform 은 Tomcat 워커 풀(기본 200), virtual 은 요청마다 가상 스레드 + 세마포어 DataSource
+ * - 한 번의 측정 = clients 개 POST /api/auth/refresh 를 동시에 보내고 모두 응답받을 때까지 (토큰 발급은 측정 제외)
+ * - 처리량은 clients / 측정 시간. 200 이 아닌 응답은 failures 보조 카운터로 보고
+ * - virtual 은 Java 21 이상 필요: ./gradlew jmh -PjavaVersion=21 -PjmhInclude=VirtualThreadRefreshBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.httpclient.keepalive.timeout=30")
+public class VirtualThreadRefreshBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000", "10000"})
+    public int clients;
+
+    private ConfigurableApplicationContext context;
+    private RefreshTokenService refreshTokenService;
+    private TransactionTemplate transactionTemplate;
+    private MeetUser user;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private URI refreshUri;
+    private List<String> tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "virtual".equals(threads);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("threads=virtual 은 Java 21 이상에서 실행해야 합니다 (-PjavaVersion=21).");
+        }
+        // 빈도 제한은 사실상 끄고, 동시 연결/대기열과 커넥션 대기 한도를 클라이언트 수에 맞게 늘린다
+        context = BenchmarkContext.startWeb("jdbc:h2:mem:vthread-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=10000",
+                "--spring.datasource.hikari.connection-timeout=120000",
+                "--dialog.datasource.acquire-timeout=120s",
+                "--dialog.security.rate-limit.refresh-per-ip.per-minute=100000000",
+                "--dialog.security.rate-limit.refresh-per-ip.burst=100000000");
+        refreshTokenService = context.getBean(RefreshTokenService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        user = context.getBean(MeetUserRepository.class).save(MeetUser.builder()
+                .email("bench@dialog.com")
+                .password("{noop}benchmark")
+                .name("benchmark")
+                .build());
+        clientExecutor = Executors.newFixedThreadPool(4);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(clientExecutor)
+                .build();
+        refreshUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/api/auth/refresh");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.shutdownNow();
+        context.close();
+    }
+
+    // 매 측정 직전 clients 개 토큰을 한 트랜잭션으로 발급
+    @Setup(Level.Invocation)
+    public void issueTokens() {
+        tokens = transactionTemplate.execute(status -> {
+            List<String> issued = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                issued.add(refreshTokenService.createRefreshToken(user).getRefreshToken());
+            }
+            return issued;
+        });
+    }
+
+    @Benchmark
+    public int rotateConcurrently(Failures failures) {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(clients);
+        for (String token : tokens) {
+            HttpRequest request = HttpRequest.newBuilder(refreshUri)
+                    .timeout(Duration.ofMinutes(2))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"refreshToken\":\"" + token + "\"}"))
+                    .build();
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            try {
+                if (response.join().statusCode() == 200) {
+                    ok++;
+                } else {
+                    failures.failures++;
+                }
+            } catch (RuntimeException e) {
+                failures.failures++;
+            }
+        }
+        return ok;
+    }
+
+    // 측정 구간의 실패 응답 수 (상태 코드 != 200 또는 연결 오류)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Failures {
+
+        public long failures;
+    }
+}
@@ -0,0 +1,28 @@
+package com.dialog.loadtest;
+
+/**
+ * 부하 테스트에서 섞어 보내는 사용자 흐름 (key 는 loadtest.mix 와 리포트에서 쓰는 이름)
+ */
+enum Flow {
+
+    SIGNUP("signup"),          // POST /api/auth/signup (매번 새 이메일)
+    LOGIN("login"),            // POST /api/auth/login (시드 사용자, 받은 리프레시 토큰은 토큰 풀로)
+    SOCIAL_LOGIN("social"),    // GET /oauth2/authorization/{google|kakao} -> 콜백 (가짜 제공자와 코드 교환)
+    REFRESH("refresh"),        // POST /api/auth/refresh (토큰 풀에서 꺼내 회전 후 되돌림)
+    REVOKE("revoke");          // POST /api/auth/logout (토큰 풀에서 꺼내 폐기)
+
+    final String key;
+
+    Flow(String key) {
+        this.key = key;
+    }
+
+    static Flow fromKey(String key) {
+        for (Flow flow : values()) {
+            if (flow.key.equals(key)) {
+                return flow;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 흐름: " + key);
+    }
+}
@@ -0,0 +1,88 @@
+package com.dialog.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 흐름 하나의 측정값 (여러 HttpClient 스레드에서 동시에 기록)
+ * - 지연 시간은 응답 시각 - "도착 예정 시각" (밀린 요청의 대기까지 포함해 coordinated omission 을 피함)
+ * - 지연 히스토그램은 성공 응답만, 실패는 원인(상태 코드/예외 이름)별 건수로 남긴다
+ */
+final class FlowStats {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Recorder latency = new Recorder(HIGHEST_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    void success(long latencyMicros) {
+        latency.recordValue(Math.min(latencyMicros, HIGHEST_MICROS));
+        ok.increment();
+    }
+
+    void failure(String reason) {
+        errors.increment();
+        failures.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    // 보낼 수 없었던 요청 (예: 토큰 풀이 비어 refresh/revoke 불가)
+    void skip() {
+        skipped.increment();
+    }
+
+    long requests() {
+        return ok.sum() + errors.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    // 예열 구간 값 버리기
+    void reset() {
+        latency.reset();
+        ok.reset();
+        errors.reset();
+        skipped.reset();
+        failures.clear();
+    }
+
+    Map<String, Object> report(double seconds) {
+        Histogram histogram = latency.getIntervalHistogram();
+        long requests = requests();
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latencyMs.put("p90", millis(histogram.getValueAtPercentile(90)));
+        latencyMs.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latencyMs.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        latencyMs.put("max", millis(histogram.getMaxValue()));
+        latencyMs.put("mean", millis(histogram.getMean()));
+        Map<String, Long> failureCounts = new TreeMap<>();
+        failures.forEach((reason, count) -> failureCounts.put(reason, count.sum()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", requests);
+        report.put("ok", ok.sum());
+        report.put("errors", errors.sum());
+        report.put("skipped", skipped.sum());
+        report.put("errorRate", requests == 0 ? 0.0 : (double) errors.sum() / requests);
+        report.put("throughput", ok.sum() / seconds);
+        report.put("latencyMs", latencyMs);
+        report.put("failures", failureCounts);
+        return report;
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
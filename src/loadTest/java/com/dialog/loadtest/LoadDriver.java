@@ -0,0 +1,307 @@
+package com.dialog.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 개방형(open model) 부하 발생기: 응답을 기다리지 않고 정해진 도착률로 요청을 보낸다
+ * - 단일 스케줄러 스레드가 1/rate 간격의 "도착 예정 시각" 마다 흐름 하나를 골라 비동기로 시작
+ * - 서버가 느려져도 도착률은 유지되고, 밀린 만큼 지연 시간에 반영된다 (폐쇄형처럼 부하가 스스로 줄지 않음)
+ * - 미완료 요청이 maxInFlight 를 넘으면 그 도착은 보내지 않고 dropped 로 센다 (클라이언트 쪽 포화 표시)
+ */
+final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final String[] SOCIAL_PROVIDERS = {"google", "kakao"};
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final List<String> seededEmails;
+    private final String password;
+    private final Flow[] weightedFlows;
+    private final int maxInFlight;
+    private final TokenPool tokenPool;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong signupSequence = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    LoadDriver(HttpClient httpClient, String baseUrl, List<String> seededEmails, String password,
+               List<String> initialTokens, Map<Flow, Integer> mix, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.seededEmails = seededEmails;
+        this.password = password;
+        this.weightedFlows = mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Flow[]::new);
+        if (weightedFlows.length == 0) {
+            throw new IllegalArgumentException("loadtest.mix 가중치 합이 0 입니다.");
+        }
+        this.maxInFlight = maxInFlight;
+        this.tokenPool = new TokenPool(Math.max(initialTokens.size(), seededEmails.size()) * 2);
+        initialTokens.forEach(tokenPool::offer);
+    }
+
+    // 1. 한 단계 실행: warmup 동안 보낸 뒤 측정값을 버리고, duration 동안 측정
+    Map<String, Object> run(int rate, Duration warmup, Duration duration) throws InterruptedException {
+        Map<Flow, FlowStats> stats = new EnumMap<>(Flow.class);
+        for (Flow flow : Flow.values()) {
+            stats.put(flow, new FlowStats());
+        }
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+        long next = start;
+        long dropped = 0;
+        long arrivals = 0;
+        boolean measuring = warmup.isZero();
+
+        while (true) {
+            long now = System.nanoTime();
+            if (!measuring && now >= measureStart) {
+                stats.values().forEach(FlowStats::reset);
+                dropped = 0;
+                arrivals = 0;
+                measuring = true;
+            }
+            if (now >= end) {
+                break;
+            }
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            arrivals++;
+            Flow flow = weightedFlows[ThreadLocalRandom.current().nextInt(weightedFlows.length)];
+            if (inFlight.tryAcquire()) {
+                long intended = next;
+                FlowStats flowStats = stats.get(flow);
+                execute(flow).whenComplete((outcome, error) -> {
+                    if (error != null) {
+                        flowStats.failure(rootCause(error).getClass().getSimpleName());
+                    } else if (outcome == null) {
+                        flowStats.skip();
+                    } else if (outcome.isEmpty()) {
+                        flowStats.success((System.nanoTime() - intended) / 1_000L);
+                    } else {
+                        flowStats.failure(outcome);
+                    }
+                    inFlight.release();
+                });
+            } else {
+                dropped++;
+            }
+            next += intervalNanos;
+        }
+
+        // 남은 요청이 끝날 때까지 대기 (지연 기록 포함), 이후 결과 집계
+        if (inFlight.tryAcquire(maxInFlight, REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+        double seconds = duration.toNanos() / 1e9;
+        List<Flow> mixed = List.of(weightedFlows);
+        Map<String, Object> flows = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<Flow, FlowStats> entry : stats.entrySet()) {
+            if (!mixed.contains(entry.getKey())) {
+                continue;
+            }
+            requests += entry.getValue().requests();
+            errors += entry.getValue().errors();
+            flows.put(entry.getKey().key, entry.getValue().report(seconds));
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("targetRate", rate);
+        report.put("achievedRate", (arrivals - dropped) / seconds);
+        report.put("durationSeconds", seconds);
+        report.put("arrivals", arrivals);
+        report.put("dropped", dropped);
+        report.put("requests", requests);
+        report.put("errors", errors);
+        report.put("errorRate", requests == 0 ? 0.0 : (double) errors / requests);
+        report.put("flows", flows);
+        return report;
+    }
+
+    // 2. 흐름 실행. 결과: "" = 성공, 그 외 문자열 = 실패 원인, null = 보낼 수 없어 건너뜀
+    private CompletableFuture<String> execute(Flow flow) {
+        return switch (flow) {
+            case SIGNUP -> signup();
+            case LOGIN -> login();
+            case SOCIAL_LOGIN -> socialLogin();
+            case REFRESH -> refresh();
+            case REVOKE -> revoke();
+        };
+    }
+
+    private CompletableFuture<String> signup() {
+        long n = signupSequence.incrementAndGet();
+        String body = """
+                {"email":"signup-%s-%d@load.dialog","password":"%s","terms":true,"name":"signup %d"}"""
+                .formatted(runId, n, password, n);
+        return postJson("/api/auth/signup", body).thenApply(response -> expect(response, 200));
+    }
+
+    private CompletableFuture<String> login() {
+        String email = seededEmails.get(ThreadLocalRandom.current().nextInt(seededEmails.size()));
+        String body = """
+                {"email":"%s","password":"%s"}""".formatted(email, password);
+        return postJson("/api/auth/login", body).thenApply(response -> {
+            String outcome = expect(response, 200);
+            if (outcome.isEmpty()) {
+                tokenPool.offer(refreshTokenOf(response));
+            }
+            return outcome;
+        });
+    }
+
+    // 인가 요청(세션 쿠키 + state 발급) -> 제공자 콜백 (앱이 가짜 제공자와 코드 교환/프로필 조회 후 토큰 발급)
+    private CompletableFuture<String> socialLogin() {
+        String provider = SOCIAL_PROVIDERS[ThreadLocalRandom.current().nextInt(SOCIAL_PROVIDERS.length)];
+        int userIndex = ThreadLocalRandom.current().nextInt(seededEmails.size());
+        HttpRequest authorization = HttpRequest.newBuilder(URI.create(baseUrl + "/oauth2/authorization/" + provider))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        return httpClient.sendAsync(authorization, HttpResponse.BodyHandlers.discarding())
+                .thenCompose(response -> {
+                    String location = response.headers().firstValue("Location").orElse(null);
+                    String cookie = response.headers().allValues("Set-Cookie").stream()
+                            .map(value -> value.split(";", 2)[0])
+                            .reduce((a, b) -> a + "; " + b)
+                            .orElse(null);
+                    String state = location == null ? null : queryParameter(location, "state");
+                    if (response.statusCode() != 302 || state == null || cookie == null) {
+                        return CompletableFuture.completedFuture("authorize-" + response.statusCode());
+                    }
+                    HttpRequest callback = HttpRequest.newBuilder(URI.create(baseUrl + "/login/oauth2/code/" + provider
+                                    + "?code=" + userIndex + "&state=" + state))
+                            .timeout(REQUEST_TIMEOUT)
+                            .header("Cookie", cookie)
+                            .GET()
+                            .build();
+                    return httpClient.sendAsync(callback, HttpResponse.BodyHandlers.ofString())
+                            .thenApply(result -> expect(result, 200));
+                });
+    }
+
+    private CompletableFuture<String> refresh() {
+        String token = tokenPool.poll();
+        if (token == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return postJson("/api/auth/refresh", refreshBody(token)).thenApply(response -> {
+            String outcome = expect(response, 200);
+            if (outcome.isEmpty()) {
+                tokenPool.offer(refreshTokenOf(response));
+            }
+            return outcome;
+        });
+    }
+
+    private CompletableFuture<String> revoke() {
+        String token = tokenPool.poll();
+        if (token == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return postJson("/api/auth/logout", refreshBody(token)).thenApply(response -> expect(response, 204));
+    }
+
+    private CompletableFuture<HttpResponse<String>> postJson(String path, String body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String refreshBody(String token) {
+        return "{\"refreshToken\":\"" + token + "\"}";
+    }
+
+    private static String expect(HttpResponse<?> response, int status) {
+        return response.statusCode() == status ? "" : Integer.toString(response.statusCode());
+    }
+
+    private String refreshTokenOf(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body()).path("refreshToken").asText(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // Location 헤더의 쿼리 값 (인코딩된 그대로 되돌려 보낸다)
+    private static String queryParameter(String url, String name) {
+        int query = url.indexOf('?');
+        if (query < 0) {
+            return null;
+        }
+        for (String pair : url.substring(query + 1).split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return pair.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    // refresh/revoke 용 리프레시 토큰 풀 (login/refresh 응답으로 채워지고 revoke 로 줄어든다, 상한 초과분은 버림)
+    private static final class TokenPool {
+
+        private final Queue<String> tokens = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int capacity;
+
+        private TokenPool(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(String token) {
+            if (token != null && size.incrementAndGet() <= capacity) {
+                tokens.offer(token);
+            } else if (token != null) {
+                size.decrementAndGet();
+            }
+        }
+
+        String poll() {
+            String token = tokens.poll();
+            if (token != null) {
+                size.decrementAndGet();
+            }
+            return token;
+        }
+    }
+}
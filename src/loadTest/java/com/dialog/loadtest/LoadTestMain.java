@@ -0,0 +1,162 @@
+package com.dialog.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.DialogBackendApplication;
+import com.dialog.token.service.RefreshTokenService;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 로컬 부하 테스트 진입점 (./gradlew loadTest)
+ * 1. 가짜 OAuth2 제공자 기동 -> 2. 앱을 임의 포트 + 임베디드 H2 로 기동 (빈도 제한 해제)
+ * 3. 사용자 N명 시드 + 리프레시 토큰 풀 채우기 -> 4. 도착률 단계별 실행 -> 5. JSON 리포트 저장
+ * - 단계의 오류+드롭 비율이 stop-error-rate 를 넘으면 포화로 보고 남은 단계는 건너뛴다
+ */
+public final class LoadTestMain {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final int SEED_CHUNK = 1_000;
+    private static final int MAX_INITIAL_TOKENS = 10_000;
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try (StubOAuth2Provider provider = StubOAuth2Provider.start();
+             ConfigurableApplicationContext context = startApplication(provider, options)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            List<String> emails = seedUsers(context, options.users());
+            List<String> tokens = issueTokens(context, Math.min(options.users(), MAX_INITIAL_TOKENS));
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(clientExecutor)
+                    .build();
+            LoadDriver driver = new LoadDriver(httpClient, baseUrl, emails, PASSWORD, tokens, options.mix(),
+                    options.maxInFlight());
+
+            List<Map<String, Object>> stages = new ArrayList<>();
+            Integer saturatedAt = null;
+            for (int rate : options.rates()) {
+                System.out.printf("[loadtest] %d req/s, 예열 %s, 측정 %s%n", rate, options.warmup(), options.duration());
+                Map<String, Object> stage = driver.run(rate, options.warmup(), options.duration());
+                stages.add(stage);
+                printStage(stage);
+                long arrivals = (long) stage.get("arrivals");
+                double failed = arrivals == 0 ? 0.0
+                        : ((long) stage.get("errors") + (long) stage.get("dropped")) / (double) arrivals;
+                if (failed > options.stopErrorRate()) {
+                    saturatedAt = rate;
+                    System.out.printf("[loadtest] 오류+드롭 비율 %.3f > %.3f: %d req/s 에서 포화, 남은 단계 생략%n",
+                            failed, options.stopErrorRate(), rate);
+                    break;
+                }
+            }
+            writeReport(options, stages, saturatedAt);
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(StubOAuth2Provider provider, LoadTestOptions options) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.profiles.active=loadtest",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=10000",
+                "--logging.level.root=WARN"));
+        for (String limit : new String[] {"login-per-email", "login-per-ip", "refresh-per-ip"}) {
+            args.add("--dialog.security.rate-limit." + limit + ".per-minute=100000000");
+            args.add("--dialog.security.rate-limit." + limit + ".burst=100000000");
+        }
+        provider.clientProperties().forEach((key, value) -> args.add("--" + key + "=" + value));
+        args.addAll(options.appArgs());
+        return new SpringApplicationBuilder(DialogBackendApplication.class).run(args.toArray(String[]::new));
+    }
+
+    // 같은 비밀번호라 해시는 한 번만 계산하고, 청크마다 한 트랜잭션으로 배치 저장
+    private static List<String> seedUsers(ConfigurableApplicationContext context, int users) {
+        MeetUserRepository repository = context.getBean(MeetUserRepository.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        String encoded = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<String> emails = new ArrayList<>(users);
+        for (int from = 0; from < users; from += SEED_CHUNK) {
+            List<MeetUser> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int i = from; i < Math.min(users, from + SEED_CHUNK); i++) {
+                String email = "user-" + i + "@load.dialog";
+                emails.add(email);
+                chunk.add(MeetUser.builder().email(email).password(encoded).name("load " + i).build());
+            }
+            transactionTemplate.executeWithoutResult(status -> repository.saveAll(chunk));
+        }
+        System.out.printf("[loadtest] 사용자 %d명 시드 완료%n", users);
+        return emails;
+    }
+
+    private static List<String> issueTokens(ConfigurableApplicationContext context, int count) {
+        RefreshTokenService refreshTokenService = context.getBean(RefreshTokenService.class);
+        MeetUserRepository repository = context.getBean(MeetUserRepository.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        return transactionTemplate.execute(status -> {
+            List<String> tokens = new ArrayList<>(count);
+            for (MeetUser user : repository.findAll(PageRequest.of(0, count))) {
+                tokens.add(refreshTokenService.createRefreshToken(user).getRefreshToken());
+            }
+            return tokens;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printStage(Map<String, Object> stage) {
+        System.out.printf("[loadtest]   달성 %.1f req/s, 드롭 %d, 오류율 %.4f%n",
+                stage.get("achievedRate"), stage.get("dropped"), stage.get("errorRate"));
+        ((Map<String, Map<String, Object>>) stage.get("flows")).forEach((flow, stats) -> {
+            Map<String, Object> latency = (Map<String, Object>) stats.get("latencyMs");
+            System.out.printf("[loadtest]   %-8s ok=%d err=%d p50=%sms p99=%sms p999=%sms%n", flow,
+                    stats.get("ok"), stats.get("errors"), latency.get("p50"), latency.get("p99"), latency.get("p999"));
+        });
+    }
+
+    private static void writeReport(LoadTestOptions options, List<Map<String, Object>> stages, Integer saturatedAt)
+            throws Exception {
+        Map<String, Object> mix = new LinkedHashMap<>();
+        options.mix().forEach((flow, weight) -> mix.put(flow.key, weight));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("users", options.users());
+        report.put("warmupSeconds", options.warmup().toSeconds());
+        report.put("mix", mix);
+        report.put("appArgs", options.appArgs());
+        report.put("saturatedAtRate", saturatedAt);
+        report.put("stages", stages);
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(options.report().toFile(), report);
+        System.out.printf("[loadtest] 리포트: %s%n", options.report().toAbsolutePath());
+    }
+}
@@ -0,0 +1,57 @@
+package com.dialog.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * 부하 테스트 옵션 (시스템 프로퍼티 loadtest.*, Gradle 에서는 -Ploadtest.xxx=값)
+ * - loadtest.users          시드 사용자 수 (기본 1000)
+ * - loadtest.rate           초당 도착 요청 수, 쉼표로 여러 단계 (기본 50,100,200,400)
+ * - loadtest.duration       단계별 측정 시간 (기본 30s)
+ * - loadtest.warmup         단계별 측정 전 예열 시간 (기본 10s)
+ * - loadtest.mix            흐름별 가중치 (기본 signup=1,login=3,social=1,refresh=4,revoke=1)
+ * - loadtest.max-in-flight  동시 미완료 요청 상한, 넘는 도착은 dropped 로 집계 (기본 5000)
+ * - loadtest.stop-error-rate 단계의 오류+드롭 비율이 이 값을 넘으면 포화로 보고 다음 단계 중단 (기본 0.05)
+ * - loadtest.report         JSON 리포트 경로
+ * - loadtest.app-args       앱에 추가로 넘길 인자 (공백 구분, 예: --spring.threads.virtual.enabled=true)
+ */
+record LoadTestOptions(int users, List<Integer> rates, Duration duration, Duration warmup, Map<Flow, Integer> mix,
+                       int maxInFlight, double stopErrorRate, Path report, List<String> appArgs) {
+
+    static LoadTestOptions fromSystemProperties() {
+        List<Integer> rates = new ArrayList<>();
+        for (String rate : property("rate", "50,100,200,400").split(",")) {
+            rates.add(Integer.parseInt(rate.trim()));
+        }
+        Map<Flow, Integer> mix = new EnumMap<>(Flow.class);
+        for (String entry : property("mix", "signup=1,login=3,social=1,refresh=4,revoke=1").split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식은 흐름=가중치 입니다: " + entry);
+            }
+            mix.put(Flow.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        String appArgs = property("app-args", "").trim();
+        return new LoadTestOptions(
+                Integer.parseInt(property("users", "1000")),
+                List.copyOf(rates),
+                DurationStyle.detectAndParse(property("duration", "30s")),
+                DurationStyle.detectAndParse(property("warmup", "10s")),
+                mix,
+                Integer.parseInt(property("max-in-flight", "5000")),
+                Double.parseDouble(property("stop-error-rate", "0.05")),
+                Path.of(property("report", "build/reports/loadtest/report.json")),
+                appArgs.isEmpty() ? List.of() : Arrays.asList(appArgs.split("\\s+")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,138 @@
+package com.dialog.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongFunction;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * google/kakao 를 대신하는 로컬 OAuth2 제공자 (JDK HttpServer)
+ * - 인가 코드 = 사용자 번호. /token 은 코드를 그대로 액세스 토큰으로 돌려주고,
+ *   /{provider}/userinfo 는 그 번호로 제공자 형식의 프로필을 만든다 (SocialProfile 이 읽는 속성과 동일)
+ * - /authorize 는 브라우저로 직접 확인할 때를 위한 것으로, login_hint(없으면 0) 를 코드로 즉시 콜백에 돌려보낸다
+ * - google 은 openid 범위를 빼고 일반 OAuth2 로 등록한다 (id_token 서명/JWKS 를 흉내내지 않기 위해)
+ */
+final class StubOAuth2Provider implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private StubOAuth2Provider(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static StubOAuth2Provider start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        server.setExecutor(executor);
+        server.createContext("/authorize", StubOAuth2Provider::authorize);
+        server.createContext("/token", StubOAuth2Provider::token);
+        server.createContext("/google/userinfo", exchange -> userInfo(exchange, index -> """
+                {"sub":"g-%d","email":"social-%d@google.load","name":"google %d"}""".formatted(index, index, index)));
+        server.createContext("/kakao/userinfo", exchange -> userInfo(exchange, index -> """
+                {"id":%d,"kakao_account":{"email":"social-%d@kakao.load","profile":{"nickname":"kakao %d"}}}"""
+                .formatted(index, index, index)));
+        server.start();
+        return new StubOAuth2Provider(server, executor);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    // 앱이 이 제공자를 쓰도록 덮어쓸 스프링 프로퍼티
+    Map<String, String> clientProperties() {
+        Map<String, String> properties = new HashMap<>();
+        for (String provider : new String[] {"google", "kakao"}) {
+            String registration = "spring.security.oauth2.client.registration." + provider + ".";
+            String endpoint = "spring.security.oauth2.client.provider." + provider + ".";
+            properties.put(registration + "client-id", "loadtest");
+            properties.put(registration + "client-secret", "loadtest");
+            properties.put(endpoint + "authorization-uri", baseUrl() + "/authorize");
+            properties.put(endpoint + "token-uri", baseUrl() + "/token");
+            properties.put(endpoint + "user-info-uri", baseUrl() + "/" + provider + "/userinfo");
+        }
+        properties.put("spring.security.oauth2.client.registration.google.scope", "profile,email");
+        properties.put("spring.security.oauth2.client.provider.google.user-name-attribute", "sub");
+        return properties;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void authorize(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseForm(exchange.getRequestURI().getRawQuery());
+        String code = query.getOrDefault("login_hint", "0");
+        String location = query.get("redirect_uri") + "?code=" + code + "&state="
+                + URLEncoder.encode(query.getOrDefault("state", ""), StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private static void token(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String code = parseForm(body).get("code");
+        if (code == null) {
+            respond(exchange, 400, "{\"error\":\"invalid_request\"}");
+            return;
+        }
+        respond(exchange, 200, """
+                {"access_token":"%s","token_type":"Bearer","expires_in":3600}""".formatted(code));
+    }
+
+    private static void userInfo(HttpExchange exchange, LongFunction<String> profile)
+            throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            respond(exchange, 401, "{\"error\":\"invalid_token\"}");
+            return;
+        }
+        long index;
+        try {
+            index = Long.parseLong(authorization.substring("Bearer ".length()).trim());
+        } catch (NumberFormatException e) {
+            respond(exchange, 401, "{\"error\":\"invalid_token\"}");
+            return;
+        }
+        respond(exchange, 200, profile.apply(index));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> parseForm(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return values;
+        }
+        for (String pair : encoded.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                values.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return values;
+    }
+}
@@ -1,16 +1,30 @@
 package com.dialog;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.dialog.security.CostPinnedBCryptPasswordEncoder;
+import com.dialog.security.PasswordCostCalibrator;
+
 
 @Configuration
 public class AppConfig {
+	// 해시마다 {bcrypt} 접두사(알고리즘)와 $2a$NN$(비용)이 기록되므로, 비용을 바꿔도 기존 해시는 그대로 검증된다
+	// 로그인 성공 시 upgradeEncoding() 이 true 인 해시(현재와 다른 비용/접두사 없음)는 현재 비용으로 재해싱된다
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder(12);  // 비밀번호 12자 이상
+	public PasswordEncoder passwordEncoder(PasswordCostCalibrator calibrator) {
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put("bcrypt", new CostPinnedBCryptPasswordEncoder(calibrator.calibrate()));  // 비용은 환경별 보정값
+
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", encoders);
+		encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());  // 접두사 없는 기존 해시 검증용
+		return encoder;
 	}
 	
 }
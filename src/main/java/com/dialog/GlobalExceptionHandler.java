@@ -2,11 +2,18 @@ package com.dialog;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.dialog.exception.AuthException;
+import com.dialog.exception.PasswordHashingBusyException;
+
 /**
  * 모든 REST API 예외를 한 곳에서 처리하는 글로벌 예외 핸들러 클래스
  * - 컨트롤러(@RestController)에서 IllegalArgumentException, IllegalStateException이 발생할 때 JSON 응답으로 처리
@@ -14,6 +21,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice // 모든 REST 컨트롤러의 예외를 공통 처리
 public class GlobalExceptionHandler {
 
+    // 인증 예외 타입별 완성된 응답 (예외와 본문이 모두 상수이므로 ResponseEntity 도 재사용, 헤더는 읽기 전용)
+    private final Map<Class<? extends AuthException>, ResponseEntity<byte[]>> authResponses = new ConcurrentHashMap<>();
+
     /**
      * IllegalArgumentException, IllegalStateException 예외 발생 시
      * - 서버에서 예외 발생 시 여기서 잡아서 클라이언트에 JSON 형태의 에러 응답 반환
@@ -29,4 +39,36 @@ public class GlobalExceptionHandler {
         // 2. 400 Bad Request와 함께 JSON 응답 반환
         return ResponseEntity.badRequest().body(error);
     }
+
+    /**
+     * 비밀번호 해싱 풀이 포화 상태일 때
+     * - 해싱을 기다리지 않고 즉시 거절하여 다른 API 가 굶지 않도록 한다
+     * @return { "message": 예외메시지 } 형태의 JSON과 503(Service Unavailable) 코드, Retry-After 헤더 반환
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<?> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    /**
+     * 인증 실패 (리프레시 토큰 없음/폐기/만료/재사용 401, 빈도 제한 초과 429 + Retry-After)
+     * - 미리 직렬화된 본문을 담은 응답을 타입별로 한 번만 만들어 재사용 (오류당 할당 거의 없음)
+     * @return { "code": 오류코드, "message": 예외메시지 } 형태의 JSON과 예외에 정의된 상태 코드 반환
+     */
+    @ExceptionHandler(AuthException.class)
+    public ResponseEntity<byte[]> handleAuthException(AuthException ex) {
+        return authResponses.computeIfAbsent(ex.getClass(), type -> {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(ex.getStatus())
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (ex.getRetryAfterSeconds() > 0) {
+                builder.header(HttpHeaders.RETRY_AFTER, Integer.toString(ex.getRetryAfterSeconds()));
+            }
+            return builder.body(ex.getBody());
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.dialog;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.dialog.datasource.ConcurrencyLimitedDataSource;
+import com.dialog.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 주/복제 DB 읽기·쓰기 분리 (dialog.datasource.replica.enabled=true 일 때만)
+ * - primary 는 spring.datasource.*, replica 는 dialog.datasource.replica.* (각자 .hikari.* 로 풀 설정)
+ * - readOnly 트랜잭션 안의 조회만 replica, 그 외(쓰기 트랜잭션, 트랜잭션 없음)는 primary
+ *   SimpleJpaRepository 의 기본 메서드(findById 등)는 readOnly 지만, 리포지토리 인터페이스에 선언한 조회 메서드는
+ *   트랜잭션이 없으므로 replica 로 보낼 메서드에 직접 @Transactional(readOnly = true) 를 붙인다
+ *   (MeetUserRepository 의 이메일/소셜 조회, RefreshTokenRepository 의 다이제스트 조회)
+ * - 애플리케이션이 쓰는 DataSource 빈은 LazyConnectionDataSourceProxy 하나뿐이다
+ *   (두 풀은 빈이 아니므로 SQL 계측 래퍼는 이 빈에 한 번만 씌워진다)
+ * - 가상 스레드 모드의 동시성 제한은 이 빈이 아니라 두 풀 바로 앞에 각각 둔다. 실제 커넥션을 꺼낼 때만 허가를
+ *   잡고, 허가 수 기본값도 그 풀의 최대 크기다 (dialog.datasource.max-concurrency / replica.max-concurrency)
+ * - 풀 메트릭은 hikaricp.*{pool=primary|replica}, 두 풀은 컨텍스트 종료 시 이 설정이 닫는다
+ */
+@Configuration
+@ConditionalOnProperty(name = "dialog.datasource.replica.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties primaryProperties, Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        DataSourceProperties replicaProperties = Binder.get(environment)
+                .bind("dialog.datasource.replica", DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException("dialog.datasource.replica.url 이 필요합니다."));
+        replicaProperties.setBeanClassLoader(getClass().getClassLoader());
+        replicaProperties.afterPropertiesSet();
+
+        HikariDataSource primary = pool(primaryProperties, "spring.datasource.hikari", "primary", environment, registry);
+        HikariDataSource replica = pool(replicaProperties, "dialog.datasource.replica.hikari", "replica", environment,
+                registry);
+        replica.setReadOnly(true);
+        pools.add(primary);
+        pools.add(replica);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                limited(primary, "dialog.datasource.max-concurrency", environment),
+                limited(replica, "dialog.datasource.replica.max-concurrency", environment), registry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    // 가상 스레드 모드면 풀 앞에 동시성 제한 래퍼 (허가 수 기본값 = 풀 최대 크기)
+    private static DataSource limited(HikariDataSource pool, String maxConcurrencyKey, Environment environment) {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            return pool;
+        }
+        int maxConcurrency = environment.getProperty(maxConcurrencyKey, Integer.class, pool.getMaximumPoolSize());
+        Duration acquireTimeout = environment.getProperty("dialog.datasource.acquire-timeout", Duration.class,
+                Duration.ofSeconds(5));
+        return new ConcurrencyLimitedDataSource(pool, maxConcurrency, acquireTimeout);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String hikariPrefix, String poolName,
+                                         Environment environment, MeterRegistry registry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind(hikariPrefix, Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return pool;
+    }
+}
@@ -0,0 +1,76 @@
+package com.dialog;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import com.dialog.security.jwt.JwtAuthenticationFilter;
+import com.dialog.security.jwt.JwtTokenProvider;
+import com.dialog.security.oauth2.OAuth2LoginFailureHandler;
+import com.dialog.security.oauth2.OAuth2LoginSuccessHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스프링 시큐리티 설정
+ * - JWT 액세스 토큰 기반 무상태 인증 (요청마다 세션/DB 조회 없음)
+ * - 소셜 로그인(OAuth2) 과 H2 콘솔, 인증 API 는 인증 없이 접근 가능
+ * - 액추에이터는 health 만 공개, prometheus 스크레이프는 dialog.security.prometheus.allowed-cidrs 대역에서만 허용
+ *   (프록시 뒤라면 server.forward-headers-strategy 로 실제 클라이언트 주소가 remoteAddr 이 되도록 설정)
+ */
+@Configuration
+@EnableWebSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+    private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
+
+    // 메트릭 스크레이퍼 대역 (CIDR 또는 단일 주소)
+    @Value("${dialog.security.prometheus.allowed-cidrs:127.0.0.1/32,::1/128}")
+    private List<String> prometheusAllowedCidrs;
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .csrf(csrf -> csrf.disable()) // 쿠키 세션을 쓰지 않으므로 CSRF 토큰 불필요
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin())) // H2 콘솔 iframe 허용
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/api/auth/**", "/h2-console/**", "/login/**", "/oauth2/**", "/error").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/prometheus").access(fromAddresses(prometheusAllowedCidrs))
+                .requestMatchers(HttpMethod.POST, "/api/users/import").hasRole("ADMIN") // 사용자 일괄 생성은 관리자만
+                .requestMatchers(HttpMethod.PUT, "/api/users/*/role").hasRole("ADMIN")   // 권한 변경도 관리자만
+                .anyRequest().authenticated())
+            .oauth2Login(oauth2 -> oauth2
+                .successHandler(oAuth2LoginSuccessHandler)   // 가입/갱신 후 토큰 발급
+                .failureHandler(oAuth2LoginFailureHandler))  // 제공자별 실패 집계
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+
+    // 요청의 원격 주소가 주어진 대역 중 하나에 속할 때만 허용 (인증 여부와 무관)
+    private static AuthorizationManager<RequestAuthorizationContext> fromAddresses(List<String> cidrs) {
+        List<IpAddressMatcher> matchers = cidrs.stream()
+                .map(String::trim)
+                .filter(cidr -> !cidr.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        return (authentication, context) -> new AuthorizationDecision(
+                matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+}
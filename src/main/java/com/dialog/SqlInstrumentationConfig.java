@@ -0,0 +1,59 @@
+package com.dialog;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.dialog.datasource.InstrumentedDataSource;
+import com.dialog.datasource.SqlRequestStatsFilter;
+import com.dialog.datasource.SqlStatementRecorder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * SQL 문장 계측 설정 (dialog.sql.*, show-sql/format_sql 대신 사용)
+ * - DataSource 빈을 InstrumentedDataSource 로 감싸 형태별 실행 시간 메트릭, N+1 의심 보고, 느린/표본 문장 로그를 남긴다
+ * - 후처리기(static) 단계라 MeterRegistry 는 처음 기록할 때 ObjectProvider 로 찾는다
+ */
+@Configuration
+@ConditionalOnProperty(name = "dialog.sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    @Bean
+    static SqlStatementRecorder sqlStatementRecorder(Environment environment,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SqlStatementRecorder(meterRegistry,
+                environment.getProperty("dialog.sql.slow-threshold", Duration.class, Duration.ofMillis(200)),
+                environment.getProperty("dialog.sql.sample-rate", Double.class, 0.0),
+                environment.getProperty("dialog.sql.n-plus-one-threshold", Integer.class, 5),
+                environment.getProperty("dialog.sql.max-shapes", Integer.class, 500),
+                environment.getProperty("dialog.sql.max-sql-length", Integer.class, 300));
+    }
+
+    @Bean
+    static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<SqlStatementRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, recorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication
+    public SqlRequestStatsFilter sqlRequestStatsFilter(SqlStatementRecorder sqlStatementRecorder) {
+        return new SqlRequestStatsFilter(sqlStatementRecorder);
+    }
+}
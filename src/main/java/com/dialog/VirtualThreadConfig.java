@@ -0,0 +1,60 @@
+package com.dialog;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.dialog.datasource.ConcurrencyLimitedDataSource;
+import com.dialog.diagnostics.VirtualThreadPinningMonitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 가상 스레드 실행 모드 설정 (virtual 프로필: spring.threads.virtual.enabled=true, Java 21 이상에서만 활성)
+ * - Tomcat 요청, @Async/@Scheduled 가 가상 스레드에서 실행되고, 요청 안의 JPA/JDBC 호출도 그 스레드에서 블로킹된다
+ * - 비밀번호 해싱은 CPU 작업이라 AsyncPasswordHasher 의 코어 수 고정 풀에 그대로 두고, 기다리는 요청 쪽만 가상 스레드다
+ * - 무제한 동시성이 커넥션 풀을 덮치지 않도록 커넥션 풀 바로 앞에 세마포어 래퍼를 둔다
+ *   (replica 사용 시에는 ReadWriteRoutingConfig 가 primary/replica 풀을 각각 감싼다)
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // 애플리케이션 DataSource 빈(단일 Hikari 풀)을 ConcurrencyLimitedDataSource 로 감싼다
+    // (기본 허가 수 = Hikari 최대 풀 크기: 풀 대기열 대신 공정한 세마포어 대기열에서 기다리게 함)
+    // replica 를 쓰면 DataSource 빈이 LazyConnectionDataSourceProxy 라, 여기서 감싸면 물리 커넥션을 꺼내지 않는
+    // 트랜잭션도 허가를 잡으므로 감싸지 않는다
+    @Bean
+    @ConditionalOnProperty(name = "dialog.datasource.replica.enabled", havingValue = "false", matchIfMissing = true)
+    static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int maxConcurrency = environment.getProperty("dialog.datasource.max-concurrency", Integer.class, poolSize);
+        Duration acquireTimeout = environment.getProperty("dialog.datasource.acquire-timeout", Duration.class,
+                Duration.ofSeconds(5));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "dialog.vthread.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(Environment environment, MeterRegistry meterRegistry) {
+        Duration threshold = environment.getProperty("dialog.vthread.pinning-monitor.threshold", Duration.class,
+                Duration.ofMillis(20));
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.dialog.audit.domain;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 감사 이벤트 한 건 (링 버퍼에 담겨 백그라운드 기록기로 전달되는 불변 값)
+ * - userId/subject/remoteAddr/detail 은 없으면 null (subject: 이메일 또는 제공자 등 대상 식별자)
+ * - publishedNanos 는 발행 시각(System.nanoTime)으로, 기록 지연(lag) 측정에만 쓰고 저장하지 않는다
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuditEvent(AuditEventType type, Long userId, String subject, String remoteAddr, String detail,
+                         LocalDateTime occurredAt, @JsonIgnore long publishedNanos) {
+}
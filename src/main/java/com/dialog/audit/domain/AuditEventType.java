@@ -0,0 +1,17 @@
+package com.dialog.audit.domain;
+
+/**
+ * 보안 감사 이벤트 종류 (audit_log.event_type 에 이름 그대로 저장)
+ */
+public enum AuditEventType {
+
+    TOKEN_ISSUED,           // 리프레시 토큰 최초 발급 (새 패밀리)
+    TOKEN_ROTATED,          // 리프레시 토큰 회전 (기존 토큰 폐기 + 후속 토큰 발급을 한 건으로)
+    TOKEN_REVOKED,          // 리프레시 토큰 폐기 (로그아웃, 사용자/시각 기준 일괄 폐기)
+    TOKEN_REUSE_DETECTED,   // 이미 회전된 토큰 재사용 -> 패밀리 폐기
+    LOGIN_SUCCESS,          // 이메일/비밀번호 로그인 성공
+    LOGIN_FAILURE,          // 이메일/비밀번호 로그인 실패
+    SOCIAL_LOGIN,           // 소셜 로그인 성공 (가입/갱신 포함)
+    SOCIAL_LOGIN_FAILURE,   // 소셜 로그인 실패
+    ROLE_CHANGED            // 사용자 권한 변경 (기존 토큰 일괄 폐기)
+}
@@ -0,0 +1,79 @@
+package com.dialog.audit.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 감사 로그 행 (dialog.audit.sink=jpa 일 때 JpaAuditEventSink 가 배치 INSERT)
+ * - user_id 는 FK 가 아니다: 사용자가 삭제돼도 감사 기록은 남아야 한다
+ * - 추가만 하고 수정하지 않는다
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "audit_log",
+       indexes = {
+           @Index(name = "idx_audit_log_occurred_at", columnList = "occurred_at"),             // 기간 조회/보존 정리용
+           @Index(name = "idx_audit_log_user_occurred_at", columnList = "user_id, occurred_at") // 사용자별 이력 조회용
+       })
+public class AuditLog {
+
+    // 풀링 시퀀스(50개 단위 할당): 배치 INSERT 를 위해 IDENTITY 대신 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_log_seq")
+    @SequenceGenerator(name = "audit_log_seq", sequenceName = "audit_log_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // 마이그레이션과 같은 VARCHAR (DB 네이티브 ENUM 타입 사용 안 함)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private AuditEventType eventType;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(length = 200)
+    private String subject;
+
+    @Column(name = "remote_addr", length = 64)
+    private String remoteAddr;
+
+    @Column(length = 200)
+    private String detail;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    private AuditLog(AuditEvent event) {
+        this.eventType = event.type();
+        this.userId = event.userId();
+        this.subject = truncate(event.subject(), 200);
+        this.remoteAddr = truncate(event.remoteAddr(), 64);
+        this.detail = truncate(event.detail(), 200);
+        this.occurredAt = event.occurredAt();
+    }
+
+    public static AuditLog from(AuditEvent event) {
+        return new AuditLog(event);
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+}
@@ -0,0 +1,8 @@
+package com.dialog.audit.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dialog.audit.domain.AuditLog;
+
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+}
@@ -0,0 +1,258 @@
+package com.dialog.audit.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.dialog.audit.domain.AuditEvent;
+import com.dialog.audit.domain.AuditEventType;
+import com.dialog.audit.sink.AuditEventSink;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보안 감사 이벤트 비동기 파이프라인
+ * - 서비스 계층은 publish 로 링 버퍼에 넣기만 하고(락 없음, DB 왕복 없음), 기록기 스레드 하나가 모아서 배치로 기록
+ * - 트랜잭션 안에서 발행하면 커밋된 뒤에만 버퍼에 넣는다 (롤백된 발급/폐기는 기록되지 않음, lag 에는 커밋까지의 시간 포함)
+ * - 버퍼가 가득 차면 dialog.audit.overflow 정책: drop(즉시 버림) / block(block-timeout 까지 기다린 뒤 버림)
+ * - 기록기는 batch-size 만큼 차지 않았으면 flush-interval 동안 쉬어 배치를 키운다 (최대 지연 = flush-interval + 기록 시간)
+ * - 종료 시(웹 서버가 멈춘 뒤) 버퍼에 남은 이벤트를 shutdown-timeout 안에 모두 기록하고 싱크를 닫는다
+ *   (running 확인과 offer 사이에 있는 생산자 수를 세어, 모두 빠져나간 뒤 한 번 더 비우고 끝낸다.
+ *    그 뒤에 도착한 발행은 dropped{reason=stopped} 로 센다)
+ * - 메트릭: dialog.audit.events(발행), dialog.audit.dropped{reason}, dialog.audit.buffer.depth,
+ *   dialog.audit.lag(발행 -> 기록 완료), dialog.audit.write{outcome}(배치 기록 시간)
+ */
+@Component
+@Slf4j
+public class AuditEventPublisher implements SmartLifecycle {
+
+    // 웹 서버(graceful shutdown 포함)보다 늦게 멈추고 먼저 시작하도록 낮은 단계
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long RETRY_PAUSE_MILLIS = 100;
+
+    private enum Overflow { DROP, BLOCK }
+
+    private final AuditEventSink sink;
+    private final AuditEventRingBuffer buffer;
+    private final boolean enabled;
+    private final Overflow overflow;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration shutdownTimeout;
+
+    private final Counter published;
+    private final Counter droppedFull;
+    private final Counter droppedStopped;
+    private final Counter droppedWriteFailed;
+    private final Timer lag;
+    private final Timer writeSuccess;
+    private final Timer writeError;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    // running 을 확인하고 offer 를 끝내기 전인 생산자 수 (종료 시 마지막 비우기 시점 판단)
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public AuditEventPublisher(AuditEventSink sink, MeterRegistry meterRegistry,
+                               @Value("${dialog.audit.enabled:true}") boolean enabled,
+                               @Value("${dialog.audit.buffer-size:65536}") int bufferSize,
+                               @Value("${dialog.audit.overflow:drop}") String overflow,
+                               @Value("${dialog.audit.block-timeout:50ms}") Duration blockTimeout,
+                               @Value("${dialog.audit.batch-size:500}") int batchSize,
+                               @Value("${dialog.audit.flush-interval:200ms}") Duration flushInterval,
+                               @Value("${dialog.audit.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.sink = sink;
+        this.buffer = new AuditEventRingBuffer(bufferSize);
+        this.enabled = enabled;
+        this.overflow = Overflow.valueOf(overflow.trim().toUpperCase(Locale.ROOT));
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+
+        this.published = meterRegistry.counter("dialog.audit.events");
+        this.droppedFull = meterRegistry.counter("dialog.audit.dropped", "reason", "full");
+        this.droppedStopped = meterRegistry.counter("dialog.audit.dropped", "reason", "stopped");
+        this.droppedWriteFailed = meterRegistry.counter("dialog.audit.dropped", "reason", "write-failed");
+        this.lag = Timer.builder("dialog.audit.lag")
+                .description("감사 이벤트 발행부터 기록 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.writeSuccess = meterRegistry.timer("dialog.audit.write", "outcome", "success");
+        this.writeError = meterRegistry.timer("dialog.audit.write", "outcome", "error");
+        Gauge.builder("dialog.audit.buffer.depth", buffer, AuditEventRingBuffer::size)
+                .description("기록 대기 중인 감사 이벤트 수 (용량 " + buffer.capacity() + ")")
+                .register(meterRegistry);
+    }
+
+    // 1. 이벤트 발행 (요청 스레드에서 호출, 요청 중이면 원격 주소를 함께 기록)
+    //    발생 시각/원격 주소는 지금 잡고, 버퍼에는 진행 중인 트랜잭션이 커밋된 뒤에 넣는다
+    public void publish(AuditEventType type, Long userId, String subject, String detail) {
+        if (!enabled) {
+            return;
+        }
+        AuditEvent event = new AuditEvent(type, userId, subject, remoteAddr(), detail, LocalDateTime.now(),
+                System.nanoTime());
+        afterCommit(() -> enqueue(event));
+    }
+
+    private void enqueue(AuditEvent event) {
+        inFlight.incrementAndGet(); // running 확인보다 먼저: 기록기가 inFlight == 0 을 본 뒤의 생산자는 반드시 !running 을 본다
+        try {
+            if (!running) {
+                droppedStopped.increment();
+                return;
+            }
+            if (buffer.offer(event) || (overflow == Overflow.BLOCK && offerWithin(event))) {
+                published.increment();
+                return;
+            }
+            droppedFull.increment();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    // backpressure: 기록기가 자리를 비울 때까지 짧게 쉬며 재시도 (block-timeout 이 상한)
+    private boolean offerWithin(AuditEvent event) {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 2. 기록기 루프: 꺼낸 만큼 기록, 배치가 덜 찼으면 flush-interval 만큼 쉬기
+    //    종료 요청 후에는 생산자가 모두 빠져나간(quiesced) 것을 먼저 확인한 다음 비워서, 그 비우기에서 0건이면 끝낸다
+    //    (확인 전에 끝난 offer 는 모두 그 비우기에 보이므로 버퍼에 남는 이벤트가 없다)
+    private void runWriter() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            boolean stopping = !running;
+            boolean quiesced = stopping && inFlight.get() == 0;
+            int drained = buffer.drainTo(batch, batchSize);
+            if (drained > 0) {
+                write(batch);
+                batch.clear();
+            }
+            if (quiesced && drained == 0) {
+                break;
+            }
+            if (!stopping && drained < batchSize) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            } else if (drained == 0) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS); // 종료 중 아직 offer 중인 생산자를 기다림
+            }
+        }
+        try {
+            sink.close();
+        } catch (Exception e) {
+            log.error("감사 로그 싱크 종료 실패", e);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        for (int attempt = 1; ; attempt++) {
+            long startNanos = System.nanoTime();
+            try {
+                sink.write(batch);
+                long now = System.nanoTime();
+                writeSuccess.record(now - startNanos, TimeUnit.NANOSECONDS);
+                for (AuditEvent event : batch) {
+                    lag.record(now - event.publishedNanos(), TimeUnit.NANOSECONDS);
+                }
+                return;
+            } catch (Exception e) {
+                writeError.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                if (attempt >= 2) {
+                    droppedWriteFailed.increment(batch.size());
+                    log.error("감사 이벤트 {}건 기록 실패, 버림", batch.size(), e);
+                    return;
+                }
+                log.warn("감사 이벤트 기록 실패, 재시도: {}", e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(RETRY_PAUSE_MILLIS));
+            }
+        }
+    }
+
+    // 트랜잭션이 없으면 즉시 실행
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String remoteAddr() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest().getRemoteAddr() : null;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runWriter, "audit-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    // 발행을 막고 기록기를 깨워 남은 이벤트를 기록하게 한 뒤 shutdown-timeout 까지 대기
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("감사 로그 기록기가 {} 안에 끝나지 않았습니다. 미기록 {}건", shutdownTimeout, buffer.size());
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
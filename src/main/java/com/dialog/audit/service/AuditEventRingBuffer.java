@@ -0,0 +1,82 @@
+package com.dialog.audit.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.dialog.audit.domain.AuditEvent;
+
+/**
+ * 고정 크기 락 프리 링 버퍼 (다중 생산자 / 단일 소비자)
+ * - 슬롯마다 순번을 두는 방식: 생산자는 tail 을 CAS 로 하나 차지한 뒤 값을 쓰고 순번을 pos+1 로 공개,
+ *   소비자는 순번이 pos+1 인 슬롯만 꺼내고 순번을 pos+capacity 로 돌려 다음 바퀴 생산자에게 넘긴다
+ * - 가득 차면 offer 가 즉시 false (대기/버림 정책은 AuditEventPublisher 가 결정)
+ * - drainTo 는 기록기 스레드 하나에서만 호출해야 한다
+ */
+final class AuditEventRingBuffer {
+
+    private final AuditEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    AuditEventRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.slots = new AuditEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // 1. 생산자: 빈 슬롯이 있으면 넣고 true, 가득 찼으면 false
+    boolean offer(AuditEvent event) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.getAcquire(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots[index] = event;
+                    sequences.setRelease(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    // 2. 소비자: 공개된 이벤트를 최대 max 개 꺼내 batch 에 추가, 꺼낸 개수 반환
+    int drainTo(List<AuditEvent> batch, int max) {
+        long pos = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (pos & mask);
+            if (sequences.getAcquire(index) != pos + 1) {
+                break;
+            }
+            batch.add(slots[index]);
+            slots[index] = null;
+            sequences.setRelease(index, pos + slots.length);
+            pos++;
+            drained++;
+        }
+        head = pos;
+        return drained;
+    }
+
+    // 대기 중인 이벤트 수 (근사값, 게이지용)
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
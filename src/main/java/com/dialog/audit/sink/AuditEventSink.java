@@ -0,0 +1,20 @@
+package com.dialog.audit.sink;
+
+import java.util.List;
+
+import com.dialog.audit.domain.AuditEvent;
+
+/**
+ * 감사 이벤트 기록 대상 SPI (AuditEventPublisher 의 기록기 스레드 하나에서만 호출)
+ * - dialog.audit.sink 로 구현 선택: jpa(기본, audit_log 테이블 배치 INSERT) / file(회전 세그먼트 파일)
+ * - write 가 예외를 던지면 그 배치는 한 번 재시도 후 버려지고 dialog.audit.dropped{reason=write-failed} 로 집계된다
+ */
+public interface AuditEventSink {
+
+    // 1. 배치 한 번 기록 (호출 후 batch 는 재사용되므로 참조를 보관하면 안 된다)
+    void write(List<AuditEvent> batch) throws Exception;
+
+    // 2. 종료 시 남은 버퍼 기록/자원 해제 (마지막 write 이후 한 번)
+    default void close() throws Exception {
+    }
+}
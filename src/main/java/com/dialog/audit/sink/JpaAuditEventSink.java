@@ -0,0 +1,35 @@
+package com.dialog.audit.sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.audit.domain.AuditEvent;
+import com.dialog.audit.domain.AuditLog;
+import com.dialog.audit.repository.AuditLogRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * audit_log 테이블 기록: 배치 하나 = 트랜잭션 하나 = JDBC 배치 INSERT (hibernate.jdbc.batch_size 단위)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dialog.audit.sink", havingValue = "jpa", matchIfMissing = true)
+public class JpaAuditEventSink implements AuditEventSink {
+
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void write(List<AuditEvent> batch) {
+        List<AuditLog> rows = new ArrayList<>(batch.size());
+        for (AuditEvent event : batch) {
+            rows.add(AuditLog.from(event));
+        }
+        transactionTemplate.executeWithoutResult(status -> auditLogRepository.saveAll(rows));
+    }
+}
@@ -0,0 +1,111 @@
+package com.dialog.audit.sink;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.dialog.audit.domain.AuditEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 세그먼트 파일 기록 (NDJSON, 이벤트 한 줄)
+ * - 파일명 audit-<시작 epoch millis>.ndjson, segment-size 를 넘으면 새 세그먼트로 회전
+ * - max-segments 를 넘는 오래된 세그먼트는 회전 시 삭제 (수집기가 가져가는 구조를 가정)
+ * - 배치마다 flush, force-writes=true 면 디스크 동기화까지 (전원 장애 대비, 느림)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "dialog.audit.sink", havingValue = "file")
+public class SegmentFileAuditEventSink implements AuditEventSink {
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final Path dir;
+    private final long segmentBytes;
+    private final int maxSegments;
+    private final boolean forceWrites;
+
+    private FileChannel channel;
+    private OutputStream out;
+    private long written;
+
+    public SegmentFileAuditEventSink(ObjectMapper objectMapper,
+                                     @Value("${dialog.audit.file.dir:./data/audit}") Path dir,
+                                     @Value("${dialog.audit.file.segment-size:64MB}") DataSize segmentSize,
+                                     @Value("${dialog.audit.file.max-segments:20}") int maxSegments,
+                                     @Value("${dialog.audit.file.force-writes:false}") boolean forceWrites) {
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.dir = dir;
+        this.segmentBytes = segmentSize.toBytes();
+        this.maxSegments = maxSegments;
+        this.forceWrites = forceWrites;
+    }
+
+    @Override
+    public void write(List<AuditEvent> batch) throws IOException {
+        if (out == null || written >= segmentBytes) {
+            rotate();
+        }
+        for (AuditEvent event : batch) {
+            byte[] line = objectMapper.writeValueAsBytes(event);
+            out.write(line);
+            out.write('\n');
+            written += line.length + 1;
+        }
+        out.flush();
+        if (forceWrites) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    // 현재 세그먼트를 닫고 새 세그먼트 열기, 보존 개수 초과분 삭제
+    private void rotate() throws IOException {
+        close();
+        Files.createDirectories(dir);
+        Path segment = dir.resolve(PREFIX + System.currentTimeMillis() + SUFFIX);
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+        written = channel.size();
+        log.info("감사 로그 세그먼트 열기: {}", segment);
+        deleteOldSegments();
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(dir)) {
+            segments = files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().toList();
+        }
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.dialog.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 문장 실행 시간을 SqlStatementRecorder 에 넘기는 DataSource 래퍼
+ * - Connection/Statement 를 JDK 프록시로 감싸 execute* 호출만 시간 측정 (그 외 호출은 그대로 위임)
+ * - PreparedStatement 는 prepare 시점의 SQL, 일반 Statement 는 execute 인자(배치는 마지막 addBatch)의 SQL 로 기록
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final SqlStatementRecorder recorder;
+
+    public InstrumentedDataSource(DataSource targetDataSource, SqlStatementRecorder recorder) {
+        super(targetDataSource);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(super.getConnection(username, password));
+    }
+
+    private Connection instrument(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                        return instrument(statement, method.getReturnType(), sql);
+                    }
+                    return result;
+                });
+    }
+
+    // returnType: Statement / PreparedStatement / CallableStatement (프록시도 같은 인터페이스를 구현해야 한다)
+    private Object instrument(Statement target, Class<?> returnType, String preparedSql) {
+        String[] batchSql = {preparedSql};
+        return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {returnType},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (!name.startsWith("execute")) {
+                        if ("addBatch".equals(name) && args != null && args.length == 1) {
+                            batchSql[0] = (String) args[0];
+                        }
+                        return invoke(target, method, args);
+                    }
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : batchSql[0];
+                    long startNanos = System.nanoTime();
+                    boolean failed = true;
+                    try {
+                        Object result = invoke(target, method, args);
+                        failed = false;
+                        return result;
+                    } finally {
+                        recorder.record(sql, System.nanoTime() - startNanos, failed);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.dialog.datasource;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 주(primary)/복제(replica) DB 라우팅 DataSource
+ * - 현재 트랜잭션이 readOnly 이면 replica, 그 외(쓰기 트랜잭션, 트랜잭션 없음)는 primary
+ * - onPrimary 구간 안에서는 readOnly 라도 primary (ReplicaReadGuard 의 복제 지연 보호용)
+ * - 트랜잭션 시작 시점엔 readOnly 표시가 아직 설정되지 않으므로, 실제 커넥션을 첫 문장 실행 때 얻도록
+ *   반드시 LazyConnectionDataSourceProxy 뒤에 둔다 (ReadWriteRoutingConfig)
+ * - 라우팅 결과는 dialog.datasource.route{target} 카운터 (물리 커넥션 획득 단위)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    // onPrimary 중첩 깊이 (0 이면 일반 라우팅)
+    private static final ThreadLocal<int[]> PRIMARY_SCOPE = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryRoutes = meterRegistry.counter("dialog.datasource.route", "target", PRIMARY);
+        this.replicaRoutes = meterRegistry.counter("dialog.datasource.route", "target", REPLICA);
+    }
+
+    // 1. action 안에서 시작하는 트랜잭션/조회는 readOnly 여도 primary 로 보낸다
+    public static <T> T onPrimary(Supplier<T> action) {
+        int[] depth = PRIMARY_SCOPE.get();
+        depth[0]++;
+        try {
+            return action.get();
+        } finally {
+            if (--depth[0] == 0) {
+                PRIMARY_SCOPE.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PRIMARY_SCOPE.get()[0] == 0 && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            replicaRoutes.increment();
+            return REPLICA;
+        }
+        primaryRoutes.increment();
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,104 @@
+package com.dialog.datasource;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 복제 지연 보호 (dialog.datasource.replica.max-lag 동안 방금 쓴 행은 primary 에서 읽기)
+ * - 키 단위: 방금 발급/폐기한 토큰 다이제스트, 방금 가입/수정한 이메일 등 (markWritten)
+ * - 범위 단위: 패밀리/사용자 전체 폐기처럼 키를 모두 알 수 없는 쓰기 뒤에는 그 범위의 읽기 전체 (markScopeWritten)
+ * - 토큰 조회는 replica 에서 "없음" 이 나오면 primary 에서 한 번 더 확인 (다른 노드가 방금 발급한 토큰 대비)
+ *   primary 에서도 없던 키는 miss-ttl 동안 기억해, 없는 토큰을 반복 제출해도 primary 까지 가지 않게 한다
+ *   (토큰은 발급 전에 알 수 없으므로 확인된 "없음" 이 나중에 생길 토큰을 가리지 않고, 이 노드가 쓰면 즉시 지운다)
+ * - 노드 로컬 기록이므로 다른 노드의 쓰기는 모른다. 폐기 여부처럼 늦으면 안 되는 판정은 호출 측이 primary 에서 한다
+ *   (토큰 검증의 폐기 확인, 회전/폐기 트랜잭션)
+ * - replica 가 꺼져 있으면 모든 메서드가 그대로 reader 를 실행한다
+ */
+@Component
+public class ReplicaReadGuard {
+
+    private final boolean enabled;
+    private final long maxLagNanos;
+    private final Cache<Object, Boolean> recentWrites;
+    private final Cache<Object, Boolean> confirmedMisses;
+    private final ConcurrentHashMap<String, Long> scopeWrittenAt = new ConcurrentHashMap<>();
+
+    public ReplicaReadGuard(@Value("${dialog.datasource.replica.enabled:false}") boolean enabled,
+                            @Value("${dialog.datasource.replica.max-lag:2s}") Duration maxLag,
+                            @Value("${dialog.datasource.replica.guard-max-size:100000}") long maxSize,
+                            @Value("${dialog.datasource.replica.miss-ttl:30s}") Duration missTtl) {
+        this.enabled = enabled;
+        this.maxLagNanos = maxLag.toNanos();
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxLag)
+                .build();
+        this.confirmedMisses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(missTtl)
+                .build();
+    }
+
+    // 1. 쓰기 기록 (확인된 "없음" 도 함께 지움)
+    public void markWritten(Object key) {
+        if (enabled) {
+            recentWrites.put(key, Boolean.TRUE);
+            confirmedMisses.invalidate(key);
+        }
+    }
+
+    public void markScopeWritten(String scope) {
+        if (enabled) {
+            scopeWrittenAt.put(scope, System.nanoTime());
+        }
+    }
+
+    // 2. 조회: 최근에 쓴 키/범위면 primary, 아니면 그대로 (readOnly 면 replica)
+    public <T> T read(String scope, Object key, Supplier<T> reader) {
+        if (enabled && mustReadPrimary(scope, key)) {
+            return ReadWriteRoutingDataSource.onPrimary(reader);
+        }
+        return reader.get();
+    }
+
+    // 3. 2 와 같되 replica 에서 "없음" 이면 primary 재확인 (다른 노드가 방금 만든 행이 흔한 경로용: 토큰)
+    //    primary 에서도 없으면 miss-ttl 동안 재확인하지 않는다 (없는 토큰 반복 제출이 primary 부하가 되지 않도록)
+    public <T> Optional<T> readConfirmingMiss(String scope, Object key, Supplier<Optional<T>> reader) {
+        if (!enabled) {
+            return reader.get();
+        }
+        if (mustReadPrimary(scope, key)) {
+            return ReadWriteRoutingDataSource.onPrimary(reader);
+        }
+        Optional<T> result = reader.get();
+        if (result.isPresent() || confirmedMisses.getIfPresent(key) != null) {
+            return result;
+        }
+        Optional<T> confirmed = ReadWriteRoutingDataSource.onPrimary(reader);
+        if (confirmed.isEmpty()) {
+            confirmedMisses.put(key, Boolean.TRUE);
+        }
+        return confirmed;
+    }
+
+    // 4. 무조건 primary (방금 쓴 행을 곧바로 다시 읽는 경로)
+    public <T> T onPrimary(Supplier<T> reader) {
+        return enabled ? ReadWriteRoutingDataSource.onPrimary(reader) : reader.get();
+    }
+
+    private boolean mustReadPrimary(String scope, Object key) {
+        Long writtenAt = scopeWrittenAt.get(scope);
+        if (writtenAt != null && System.nanoTime() - writtenAt < maxLagNanos) {
+            return true;
+        }
+        return recentWrites.getIfPresent(key) != null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.dialog.datasource;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 단위 SQL 집계 구간 설정 (요청 스레드에서 실행된 문장만 세어 N+1 패턴을 찾는다)
+ */
+@RequiredArgsConstructor
+public class SqlRequestStatsFilter extends OncePerRequestFilter {
+
+    private final SqlStatementRecorder recorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        recorder.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.endRequest(request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.dialog.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SQL 문장 실행 기록 (InstrumentedDataSource 가 호출, show-sql/format_sql 로그 대체)
+ * - 바인드 값/리터럴을 ? 로 바꾼 정규화 SQL(쿼리 형태)별 dialog.sql.statement 타이머
+ * - 메트릭 태그는 SQL 원문 대신 형태 id(정규화 SQL SHA-256 앞 12자리 hex, 노드/재기동과 무관하게 같음)를 쓰고,
+ *   id -> SQL 대응은 형태가 처음 나올 때 한 번 INFO 로그로 남긴다 (느린 문장/N+1 로그에는 둘 다)
+ * - 요청 단위로 형태별 실행 횟수를 세어, 같은 SELECT 가 n-plus-one-threshold 번 이상이면 N+1 의심으로 보고
+ * - 로그는 느린 문장(slow-threshold 이상)과 표본(sample-rate)만, 비동기 어펜더로 출력 (logback-spring.xml)
+ * - 형태 수는 max-shapes 로 제한하고, 넘치면 "other" 로 묶어 메트릭 태그 수가 폭증하지 않게 한다
+ */
+@Slf4j
+public class SqlStatementRecorder {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("\\(\\?\\)(?:\\s*,\\s*\\(\\?\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String OTHER = "other";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Duration slowThreshold;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int nPlusOneThreshold;
+    private final int maxShapes;
+    private final int maxSqlLength;
+
+    // 원문 SQL -> 형태 (Hibernate 가 만드는 SQL 은 원문 종류가 적어 대부분 이 맵에서 끝난다)
+    private final Map<String, Shape> shapesBySql = new ConcurrentHashMap<>();
+    // 정규화 SQL -> 형태 (IN 절 길이만 다른 원문들이 같은 형태를 공유)
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    private final ThreadLocal<Map<Shape, int[]>> requestCounts = new ThreadLocal<>();
+    private volatile MeterRegistry meterRegistry;
+    private volatile DistributionSummary requestStatements;
+
+    public SqlStatementRecorder(ObjectProvider<MeterRegistry> meterRegistryProvider, Duration slowThreshold,
+                                double sampleRate, int nPlusOneThreshold, int maxShapes, int maxSqlLength) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.slowThreshold = slowThreshold;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.maxShapes = maxShapes;
+        this.maxSqlLength = maxSqlLength;
+    }
+
+    // 1. 문장 한 번 실행 기록 (요청 스레드에서 동기 호출: 캐시된 형태/타이머 조회와 카운터 증가만 한다)
+    public void record(String sql, long elapsedNanos, boolean failed) {
+        Shape shape = shapeOf(sql);
+        Timer timer = shape.timer(this);
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        Map<Shape, int[]> counts = requestCounts.get();
+        if (counts != null) {
+            counts.computeIfAbsent(shape, key -> new int[1])[0]++;
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("느린 SQL {}ms (기준 {}){} [{}]: {}", elapsedNanos / 1_000_000L, slowThreshold,
+                    failed ? " [실패]" : "", shape.id, shape.sql);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("SQL 표본 {}us{} [{}]: {}", elapsedNanos / 1_000L, failed ? " [실패]" : "", shape.id, shape.sql);
+        }
+    }
+
+    // 2. 요청 시작/종료 (SqlRequestStatsFilter). 종료 시 요청당 문장 수와 반복 SELECT 보고
+    public void beginRequest() {
+        requestCounts.set(new HashMap<>());
+    }
+
+    public void endRequest(String request) {
+        Map<Shape, int[]> counts = requestCounts.get();
+        requestCounts.remove();
+        if (counts == null || counts.isEmpty()) {
+            return;
+        }
+        int total = 0;
+        for (Map.Entry<Shape, int[]> entry : counts.entrySet()) {
+            int count = entry.getValue()[0];
+            total += count;
+            Shape shape = entry.getKey();
+            if (count >= nPlusOneThreshold && "select".equals(shape.operation)) {
+                MeterRegistry registry = registry();
+                if (registry != null) {
+                    registry.counter("dialog.sql.repeated", "shape", shape.id).increment();
+                }
+                log.warn("N+1 의심: 같은 SELECT {}회 ({}) [{}]: {}", count, request, shape.id, shape.sql);
+            }
+        }
+        DistributionSummary summary = requestStatements();
+        if (summary != null) {
+            summary.record(total);
+        }
+    }
+
+    private Shape shapeOf(String sql) {
+        if (sql == null) {
+            return shapes.computeIfAbsent(OTHER, key -> new Shape(OTHER, OTHER, OTHER));
+        }
+        Shape shape = shapesBySql.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        String normalized = normalize(sql);
+        if (normalized.length() > maxSqlLength) {
+            normalized = normalized.substring(0, maxSqlLength) + "...";
+        }
+        if (shapes.size() >= maxShapes && !shapes.containsKey(normalized)) {
+            normalized = OTHER;
+        }
+        String operation = OTHER.equals(normalized) ? OTHER : operationOf(normalized);
+        shape = shapes.computeIfAbsent(normalized, key -> newShape(key, operation));
+        if (shapesBySql.size() < maxShapes * 4) {
+            shapesBySql.put(sql, shape);
+        }
+        return shape;
+    }
+
+    // 형태 생성은 형태당 한 번 (computeIfAbsent) -> 대응 로그도 한 번
+    private static Shape newShape(String normalized, String operation) {
+        String id = OTHER.equals(normalized) ? OTHER : shapeId(normalized);
+        log.info("SQL 형태 {}: {}", id, normalized);
+        return new Shape(id, normalized, operation);
+    }
+
+    // 정규화 SQL 의 SHA-256 앞 6바이트(12자리 hex): max-shapes 개 안에서 충돌 가능성은 무시할 수준
+    //    형태가 새로 생길 때만 호출되므로 MessageDigest 를 재사용하지 않는다
+    static String shapeId(String normalized) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 리터럴 -> ?, IN (?, ?, ...) / VALUES (?), (?) 목록 -> 하나로, 공백 정리
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("(?)");
+        normalized = VALUES_ROWS.matcher(normalized).replaceAll("(?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private static String operationOf(String normalized) {
+        int end = normalized.indexOf(' ');
+        String keyword = (end < 0 ? normalized : normalized.substring(0, end)).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete", "merge" -> keyword;
+            default -> OTHER;
+        };
+    }
+
+    // 레지스트리는 DataSource 보다 늦게 만들어질 수 있어 처음 쓸 때 찾는다 (그 전 문장은 메트릭 없이 로그만)
+    private MeterRegistry registry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private DistributionSummary requestStatements() {
+        DistributionSummary summary = requestStatements;
+        if (summary == null) {
+            MeterRegistry registry = registry();
+            if (registry == null) {
+                return null;
+            }
+            summary = DistributionSummary.builder("dialog.sql.request.statements")
+                    .description("HTTP 요청 하나가 실행한 SQL 문장 수")
+                    .register(registry);
+            requestStatements = summary;
+        }
+        return summary;
+    }
+
+    // 정규화된 쿼리 형태 (equals 는 identity: 형태 맵에서 하나만 만들어진다)
+    private static final class Shape {
+
+        private final String id;
+        private final String sql;
+        private final String operation;
+        private volatile Timer timer;
+
+        private Shape(String id, String sql, String operation) {
+            this.id = id;
+            this.sql = sql;
+            this.operation = operation;
+        }
+
+        private Timer timer(SqlStatementRecorder recorder) {
+            Timer current = timer;
+            if (current == null) {
+                MeterRegistry registry = recorder.registry();
+                if (registry == null) {
+                    return null;
+                }
+                current = Timer.builder("dialog.sql.statement")
+                        .description("정규화 SQL 형태별 실행 시간")
+                        .tag("shape", id)
+                        .tag("operation", operation)
+                        .register(registry);
+                timer = current;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.dialog.diagnostics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감시 (JFR jdk.VirtualThreadPinned 이벤트 스트리밍, Java 21+)
+ * - synchronized 블록/네이티브 프레임 안에서 블로킹되어 threshold 이상 캐리어를 붙잡은 경우만 기록
+ * - 고정 위치(스택 상위 프레임)별로 처음 한 번은 WARN + 스택, 이후는 DEBUG 로만 남겨 로그 폭주를 막는다
+ * - dialog.vthread.pinned 타이머(횟수/시간)로도 집계
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private final Counter newSites;
+    private final Map<String, Boolean> reportedSites = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("dialog.vthread.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .register(meterRegistry);
+        this.newSites = Counter.builder("dialog.vthread.pinned.sites")
+                .description("새로 발견된 캐리어 고정 위치 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("가상 스레드 고정 감시 시작 (기준 {})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        String stack = event.getStackTrace() == null ? "(스택 없음)" : event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat "));
+        String site = stack.lines().findFirst().orElse(stack);
+        if (reportedSites.putIfAbsent(site, Boolean.TRUE) == null) {
+            newSites.increment();
+            log.warn("가상 스레드 캐리어 고정 {}ms (새 위치)\n\tat {}", event.getDuration().toMillis(), stack);
+        } else {
+            log.debug("가상 스레드 캐리어 고정 {}ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,43 @@
+package com.dialog.exception;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 인증 실패 예외의 공통 상위 타입 (GlobalExceptionHandler 가 상태 코드/본문으로 변환)
+ * - 봇 트래픽에서 대량으로 발생하므로 스택 트레이스와 suppressed 목록을 만들지 않는다
+ * - 하위 타입마다 INSTANCE 하나만 두고 재사용하며, 응답 본문 JSON 은 생성 시 한 번만 직렬화한다
+ *   (메시지는 따옴표/역슬래시가 없는 상수여야 한다)
+ */
+public abstract class AuthException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final String code;
+    private final byte[] body;
+
+    protected AuthException(HttpStatus status, String code, String message) {
+        super(message, null, false, false);
+        this.status = status;
+        this.code = code;
+        this.body = ("{\"code\":\"" + code + "\",\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    // 미리 직렬화된 응답 본문 (공유 배열이므로 변경 금지)
+    public byte[] getBody() {
+        return body;
+    }
+
+    // Retry-After 헤더 값(초), 0 이면 헤더 없음
+    public int getRetryAfterSeconds() {
+        return 0;
+    }
+}
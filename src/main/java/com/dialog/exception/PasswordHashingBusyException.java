@@ -0,0 +1,11 @@
+package com.dialog.exception;
+
+/**
+ * 비밀번호 해싱 작업 큐가 가득 차 요청을 받을 수 없을 때 발생 (503으로 응답)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,15 @@
+package com.dialog.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 만료된 리프레시 토큰이 제출되었을 때 발생 (401)
+ */
+public class RefreshTokenExpiredException extends AuthException {
+
+    public static final RefreshTokenExpiredException INSTANCE = new RefreshTokenExpiredException();
+
+    private RefreshTokenExpiredException() {
+        super(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_EXPIRED", "리프레시 토큰이 만료되었습니다.");
+    }
+}
@@ -0,0 +1,15 @@
+package com.dialog.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 존재하지 않는(또는 이미 삭제된) 리프레시 토큰이 제출되었을 때 발생 (401)
+ */
+public class RefreshTokenMissingException extends AuthException {
+
+    public static final RefreshTokenMissingException INSTANCE = new RefreshTokenMissingException();
+
+    private RefreshTokenMissingException() {
+        super(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_MISSING", "리프레시 토큰이 존재하지 않습니다.");
+    }
+}
@@ -0,0 +1,17 @@
+package com.dialog.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 이미 회전(폐기)된 리프레시 토큰이 다시 제출되었을 때 발생 (401)
+ * - 토큰 탈취 가능성이 있으므로 발생 시점에 같은 패밀리의 토큰은 모두 폐기된 상태다
+ */
+public class RefreshTokenReusedException extends AuthException {
+
+    public static final RefreshTokenReusedException INSTANCE = new RefreshTokenReusedException();
+
+    private RefreshTokenReusedException() {
+        super(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_REUSED",
+                "이미 사용된 리프레시 토큰입니다. 보안을 위해 모든 관련 토큰이 폐기되었습니다.");
+    }
+}
@@ -0,0 +1,15 @@
+package com.dialog.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 폐기된 리프레시 토큰이 제출되었을 때 발생 (401)
+ */
+public class RefreshTokenRevokedException extends AuthException {
+
+    public static final RefreshTokenRevokedException INSTANCE = new RefreshTokenRevokedException();
+
+    private RefreshTokenRevokedException() {
+        super(HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_REVOKED", "리프레시 토큰이 폐기되었습니다.");
+    }
+}
@@ -0,0 +1,21 @@
+package com.dialog.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 요청 빈도 제한(rate limit) 초과 시 발생 (429 + Retry-After 로 응답)
+ * - 공격 트래픽에서 대량으로 던져지므로 스택 트레이스를 만들지 않는 단일 인스턴스를 재사용한다
+ */
+public class RequestThrottledException extends AuthException {
+
+    public static final RequestThrottledException INSTANCE = new RequestThrottledException();
+
+    private RequestThrottledException() {
+        super(HttpStatus.TOO_MANY_REQUESTS, "REQUEST_THROTTLED", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @Override
+    public int getRetryAfterSeconds() {
+        return 1;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dialog.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 소셜 로그인 이메일이 이미 다른 계정(일반 가입 또는 다른 소셜 계정)에 쓰이고 있을 때 발생 (409)
+ * - 제공자가 알려준 이메일만 믿고 기존 계정에 연결하면 그 계정을 가로챌 수 있으므로 자동 연결하지 않는다
+ */
+public class SocialAccountConflictException extends AuthException {
+
+    public static final SocialAccountConflictException INSTANCE = new SocialAccountConflictException();
+
+    private SocialAccountConflictException() {
+        super(HttpStatus.CONFLICT, "SOCIAL_ACCOUNT_CONFLICT",
+                "이미 가입된 이메일입니다. 기존 계정으로 로그인해 주세요.");
+    }
+}
@@ -0,0 +1,174 @@
+package com.dialog.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.dialog.exception.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PasswordEncoder(BCrypt) 비동기 실행 파사드
+ * - 해싱은 CPU 코어 수만큼의 전용 스레드에서만 실행되어 Tomcat 요청 스레드가 해싱으로 모두 묶이지 않는다
+ * - 대기 큐(queue-capacity)가 가득 차면 즉시 PasswordHashingBusyException(503)으로 거절한다 (백프레셔)
+ * - 큐 대기 시간/해싱 시간을 누적해 stats() 로 노출하고, Micrometer 로도 기록한다
+ *   (dialog.password.hash{operation=encode|matches} 히스토그램, dialog.password.queue.wait, 큐 깊이, 거절 수)
+ */
+@Component
+@Slf4j
+public class AsyncPasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    // 없는 계정 로그인 때 비교할 고정 해시 (현재 비용으로 기동 시 한 번 생성, 어떤 입력과도 일치하지 않음)
+    private final String dummyHash;
+
+    // 메트릭: 완료 건수, 거절 건수, 누적 큐 대기/해싱 시간(나노초)
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public AsyncPasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                               @Value("${dialog.security.password-hashing.threads:0}") int threads,
+                               @Value("${dialog.security.password-hashing.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.queueWaitTimer = Timer.builder("dialog.password.queue.wait")
+                .description("해싱 작업 큐 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("dialog.password.rejected")
+                .description("큐 포화로 거절된 해싱 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("dialog.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("해싱 대기 큐 깊이")
+                .register(meterRegistry);
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        log.info("비밀번호 해싱 풀: 스레드 {}개, 대기 큐 {}", poolSize, queueCapacity);
+    }
+
+    // 1. 비밀번호 해싱
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 2. 비밀번호 일치 여부 확인
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 2-1. 없는 계정(또는 비밀번호 없는 계정)용 비교: 실제 비교와 같은 비용을 치르고 항상 false
+    //      있는 이메일과 없는 이메일의 응답 시간이 같아 시간 차로 가입 여부를 알아낼 수 없다
+    public CompletableFuture<Boolean> matchesNothing(CharSequence rawPassword) {
+        return matches(rawPassword, dummyHash).thenApply(matched -> false);
+    }
+
+    // 3. 대량 해싱 (일괄 가져오기 등)
+    //    - 동시에 풀 크기만큼만 제출해 로그인 요청이 쓸 대기 큐 자리를 남겨 둔다
+    //    - 그래도 큐가 가득 차면 503 대신 호출 스레드에서 직접 해싱한다
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int window = executor.getMaximumPoolSize();
+        List<CompletableFuture<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (int i = 0; i < rawPasswords.size(); i++) {
+            if (i >= window) {
+                futures.get(i - window).join();
+            }
+            CharSequence rawPassword = rawPasswords.get(i);
+            CompletableFuture<String> future;
+            try {
+                future = encode(rawPassword);
+            } catch (PasswordHashingBusyException e) {
+                future = CompletableFuture.completedFuture(encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+            }
+            futures.add(future);
+        }
+        List<String> hashes = new ArrayList<>(futures.size());
+        for (CompletableFuture<String> future : futures) {
+            hashes.add(future.join());
+        }
+        return hashes;
+    }
+
+    // 4. 누적 메트릭 스냅샷
+    public Stats stats() {
+        long count = completed.sum();
+        return new Stats(count, rejected.sum(), executor.getQueue().size(),
+                count == 0 ? 0 : queueWaitNanos.sum() / count / 1_000,
+                count == 0 ? 0 : hashNanos.sum() / count / 1_000);
+    }
+
+    // 큐가 가득 차면 호출 스레드에서 바로 예외를 던진다 (해싱 비용을 치르지 않고 거절)
+    private <T> CompletableFuture<T> submit(Timer hashTimer, Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - enqueuedAt);
+                queueWaitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    hashNanos.add(elapsed);
+                    hashTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException();
+        }
+        return future;
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("dialog.password.hash")
+                .description("PasswordEncoder 실행 시간 (큐 대기 제외)")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // 완료/거절 건수, 현재 큐 깊이, 평균 큐 대기/해싱 시간(마이크로초)
+    public record Stats(long completed, long rejected, int queueDepth,
+                        long avgQueueWaitMicros, long avgHashMicros) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.dialog.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 설정된 비용과 "다른" 비용의 해시를 모두 재해싱 대상으로 보는 BCrypt 인코더
+ * - 기본 구현은 비용이 낮을 때만 업그레이드하므로, 비용을 내리면(보정값 하향, 고정값 변경) 옛 고비용 해시가
+ *   로그인마다 느린 검증을 계속 치르게 된다
+ * - 여러 노드가 서로 다른 보정값을 쓰면 재해싱이 오갈 수 있으므로 다중 노드 배포는 비용을 고정한다
+ *   (dialog.security.password.cost)
+ */
+public class CostPinnedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    // $2a$NN$... / $2b$ / $2y$ 형식에서 비용(NN) 추출
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    public CostPinnedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Matcher matcher = encodedPassword == null ? null : BCRYPT_COST.matcher(encodedPassword);
+        if (matcher == null || !matcher.matches()) {
+            return super.upgradeEncoding(encodedPassword); // 빈 값/형식 오류 처리는 기본 구현에 맡김
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
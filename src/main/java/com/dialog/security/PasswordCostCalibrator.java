@@ -0,0 +1,84 @@
+package com.dialog.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 비용(strength) 보정기
+ * - dialog.security.password.cost 가 지정되면 그 값을 그대로 사용
+ * - 0 이면 기동 시 현재 하드웨어에서 최소 비용의 해싱 시간을 측정해, 해시 1회가 target-hash-time 을
+ *   넘지 않는 가장 큰 비용을 고른다 (BCrypt 는 비용 1 증가 시 시간이 2배)
+ * - 측정은 워밍업 후 여러 번 해싱한 중앙값을 쓴다 (기동 중 GC/JIT/다른 빈 초기화로 튄 한 번의 측정이
+ *   비용을 한 단계 바꾸지 않도록)
+ */
+@Component
+@Slf4j
+public class PasswordCostCalibrator {
+
+    // 측정용 더미 비밀번호
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    // 측정 전 버리는 해싱 횟수 (JIT 컴파일)
+    private static final int WARMUP_ROUNDS = 3;
+
+    private final int fixedCost;
+    private final Duration targetHashTime;
+    private final int minCost;
+    private final int maxCost;
+    private final int samples;
+
+    public PasswordCostCalibrator(@Value("${dialog.security.password.cost:0}") int fixedCost,
+                                  @Value("${dialog.security.password.target-hash-time:250ms}") Duration targetHashTime,
+                                  @Value("${dialog.security.password.min-cost:10}") int minCost,
+                                  @Value("${dialog.security.password.max-cost:14}") int maxCost,
+                                  @Value("${dialog.security.password.calibration-samples:5}") int samples) {
+        this.fixedCost = fixedCost;
+        this.targetHashTime = targetHashTime;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+        this.samples = Math.max(1, samples);
+    }
+
+    public int calibrate() {
+        if (fixedCost > 0) {
+            log.info("BCrypt 비용 고정값 사용: {}", fixedCost);
+            return fixedCost;
+        }
+
+        long minCostNanos = measureMedianNanos(new BCryptPasswordEncoder(minCost));
+
+        // 최소 비용 측정값을 2배씩 늘려가며 예산 안에 드는 최대 비용 계산
+        int cost = minCost;
+        long estimatedNanos = minCostNanos;
+        long budgetNanos = targetHashTime.toNanos();
+        while (cost < maxCost && estimatedNanos * 2 <= budgetNanos) {
+            cost++;
+            estimatedNanos *= 2;
+        }
+
+        log.info("BCrypt 비용 보정: 비용 {} (비용 {} 측정 중앙값 {}ms/{}회, 예상 {}ms, 목표 {})",
+                cost, minCost, minCostNanos / 1_000_000, samples, estimatedNanos / 1_000_000, targetHashTime);
+        return cost;
+    }
+
+    // 워밍업 후 samples 회 해싱한 시간의 중앙값
+    private long measureMedianNanos(BCryptPasswordEncoder encoder) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+        long[] elapsed = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            elapsed[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(elapsed);
+        return Math.max(1L, elapsed[samples / 2]);
+    }
+}
@@ -0,0 +1,44 @@
+package com.dialog.security.jwt;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authorization: Bearer 헤더의 액세스 토큰으로 요청을 인증하는 필터
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘긴다 (보호된 URL 은 이후 401 처리)
+ * - SecurityConfig 에서 직접 생성해 등록한다 (서블릿 필터로 중복 등록되지 않도록 빈으로 만들지 않음)
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            String token = header.substring(BEARER_PREFIX.length());
+            try {
+                SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(token));
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("JWT 인증 실패: {}", e.getMessage());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
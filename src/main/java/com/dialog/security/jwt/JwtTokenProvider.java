@@ -0,0 +1,165 @@
+package com.dialog.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.MeetUserSummary;
+import com.dialog.user.domain.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 액세스 토큰 발급/검증기 (무상태 인증, DB 조회 없음)
+ * - 서명 키와 JwtParser 는 기동 시 한 번만 만들어 재사용한다 (둘 다 스레드 안전)
+ * - 최근 검증한 토큰의 Claims 를 토큰 문자열 기준으로 작은 캐시에 보관하며, 항목 수명은 토큰 exp 를 넘지 않는다
+ *   (키로 SHA-256 다이제스트를 쓰면 적중 때마다 해시를 계산해 HMAC 검증을 아끼는 효과가 대부분 사라진다)
+ */
+@Component
+@Slf4j
+public class JwtTokenProvider {
+
+    // 사용자 PK 클레임
+    public static final String CLAIM_USER_ID = "uid";
+
+    // 발급 당시 사용자 토큰 에포크(MeetUser.tokenVersion) 클레임
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    // 사용자 권한(MeetUser.role) 클레임, 없으면 USER
+    public static final String CLAIM_ROLE = "rol";
+
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    // ADMIN 은 USER 권한을 포함
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final long accessTokenValidityMs;
+    private final Cache<String, Claims> claimsCache;
+    private final TokenEpochCache tokenEpochCache;
+
+    public JwtTokenProvider(TokenEpochCache tokenEpochCache,
+                            @Value("${jwt.secret:}") String secret,
+                            @Value("${jwt.access-token-validity:1h}") Duration accessTokenValidity,
+                            @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheSize) {
+        this.tokenEpochCache = tokenEpochCache;
+        this.signingKey = createSigningKey(secret);
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.accessTokenValidityMs = accessTokenValidity.toMillis();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return Math.max(0L, Duration.ofMillis(remainingMs).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 비밀키가 설정되지 않은 로컬 환경에서는 임시 키 생성 (재기동/다중 노드 간 토큰 호환 안 됨)
+    private static SecretKey createSigningKey(String secret) {
+        if (secret == null || secret.isBlank()) {
+            log.warn("jwt.secret 이 설정되지 않아 임시 서명 키를 생성합니다. 운영 환경에서는 반드시 설정하세요.");
+            return Jwts.SIG.HS256.key().build();
+        }
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)); // 32바이트(256비트) 이상이어야 함
+    }
+
+    // 1. 액세스 토큰 발급: subject = 이메일, uid = 사용자 PK, ver = 사용자 토큰 에포크, rol = 권한
+    public String createAccessToken(MeetUser user) {
+        return createAccessToken(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    // 1-1. 요약 프로젝션으로 발급 (회전 흐름: 사용자 엔티티를 읽지 않음)
+    public String createAccessToken(MeetUserSummary user) {
+        return createAccessToken(user.id(), user.email(), user.role());
+    }
+
+    private String createAccessToken(Long userId, String email, UserRole role) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(email)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_TOKEN_VERSION, tokenEpochCache.currentEpoch(userId)) // 검증과 같은 출처의 에포크 사용
+                .claim(CLAIM_ROLE, (role != null ? role : UserRole.USER).name())
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + accessTokenValidityMs))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    // 2. 토큰 검증 후 Claims 반환 (서명 불일치/만료/모든 기기 로그아웃 이전 발급 시 JwtException)
+    public Claims parseClaims(String token) {
+        Claims claims = claimsCache.getIfPresent(token);
+        if (claims == null) {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+            claimsCache.put(token, claims);
+        }
+        checkEpoch(claims);
+        return claims;
+    }
+
+    // 토큰의 ver 클레임이 사용자의 현재 에포크와 같아야 유효 (메모리 조회, 캐시 미스 시에만 DB)
+    private void checkEpoch(Claims claims) {
+        Object userId = claims.get(CLAIM_USER_ID);
+        Object version = claims.get(CLAIM_TOKEN_VERSION);
+        if (!(userId instanceof Number uid) || !(version instanceof Number ver)
+                || tokenEpochCache.currentEpoch(uid.longValue()) != ver.longValue()) {
+            throw new JwtException("로그아웃 처리된 액세스 토큰입니다.");
+        }
+    }
+
+    // 3. 토큰 유효성 여부만 확인
+    public boolean validateToken(String token) {
+        try {
+            parseClaims(token);
+            return true;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 JWT: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 4. 검증된 토큰으로 인증 객체 생성 (principal = 이메일, 권한 = rol 클레임)
+    public Authentication getAuthentication(String token) {
+        Claims claims = parseClaims(token);
+        List<GrantedAuthority> authorities = UserRole.ADMIN.name().equals(claims.get(CLAIM_ROLE))
+                ? ADMIN_AUTHORITIES : USER_AUTHORITIES;
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
+    }
+}
@@ -0,0 +1,55 @@
+package com.dialog.security.jwt;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dialog.user.repository.MeetUserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * 사용자별 토큰 에포크(MeetUser.tokenVersion) 인메모리 맵
+ * - 액세스 토큰의 ver 클레임과 비교해 "모든 기기 로그아웃" 이전에 발급된 토큰을 거른다
+ * - 대부분의 요청은 메모리에서 끝나고, 처음 보는 사용자만 DB에서 에포크 한 컬럼을 읽는다
+ * - 이 노드에서 에포크를 올리면 즉시 무효화하고, 다른 노드의 변경은 refresh-interval 안에 반영된다
+ */
+@Component
+public class TokenEpochCache {
+
+    // 존재하지 않는 사용자 (어떤 토큰 버전과도 일치하지 않음)
+    private static final long UNKNOWN_USER = -1L;
+
+    private final LoadingCache<Long, Long> epochs;
+
+    public TokenEpochCache(MeetUserRepository meetUserRepository,
+                           @Value("${dialog.security.token-epoch.max-size:100000}") long maxSize,
+                           @Value("${dialog.security.token-epoch.refresh-interval:30s}") Duration refreshInterval) {
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshInterval)          // 접근 시 백그라운드로 재조회 (요청은 기존 값으로 즉시 처리)
+                .expireAfterWrite(refreshInterval.multipliedBy(10)) // 오래 접근 없던 사용자는 제거
+                .build(userId -> meetUserRepository.findTokenVersionById(userId).orElse(UNKNOWN_USER));
+    }
+
+    // 1. 사용자의 현재 에포크
+    public long currentEpoch(Long userId) {
+        return epochs.get(userId);
+    }
+
+    // 2. 에포크 변경 시 무효화 (트랜잭션 안이면 커밋 이후에도 한 번 더)
+    public void invalidate(Long userId) {
+        epochs.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    epochs.invalidate(userId);
+                }
+            });
+        }
+    }
+}
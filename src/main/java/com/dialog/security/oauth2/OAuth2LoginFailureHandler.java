@@ -0,0 +1,53 @@
+package com.dialog.security.oauth2;
+
+import java.io.IOException;
+
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import com.dialog.audit.domain.AuditEventType;
+import com.dialog.audit.service.AuditEventPublisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소셜 로그인 실패 처리 (기본 동작과 같이 /login?error 로 이동) + 제공자별 실패 카운터/감사 이벤트
+ * - 등록되지 않은 제공자 이름은 unknown 으로 묶어 태그 값이 임의로 늘어나지 않게 한다
+ */
+@Component
+@Slf4j
+public class OAuth2LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+
+    private final MeterRegistry meterRegistry;
+    private final ClientRegistrationRepository clientRegistrationRepository;
+    private final AuditEventPublisher auditEventPublisher;
+
+    public OAuth2LoginFailureHandler(MeterRegistry meterRegistry,
+                                     ClientRegistrationRepository clientRegistrationRepository,
+                                     AuditEventPublisher auditEventPublisher) {
+        super("/login?error");
+        this.meterRegistry = meterRegistry;
+        this.clientRegistrationRepository = clientRegistrationRepository;
+        this.auditEventPublisher = auditEventPublisher;
+    }
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException, ServletException {
+        String provider = OAuth2LoginMetrics.providerOf(request.getRequestURI());
+        if (clientRegistrationRepository.findByRegistrationId(provider) == null) {
+            provider = "unknown";
+        }
+        meterRegistry.counter(OAuth2LoginMetrics.METRIC, "provider", provider, "outcome", "failure").increment();
+        auditEventPublisher.publish(AuditEventType.SOCIAL_LOGIN_FAILURE, null, null,
+                "provider=" + provider + " error=" + exception.getClass().getSimpleName());
+        log.debug("{} 소셜 로그인 실패: {}", provider, exception.getMessage());
+        super.onAuthenticationFailure(request, response, exception);
+    }
+}
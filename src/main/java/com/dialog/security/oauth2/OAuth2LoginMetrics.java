@@ -0,0 +1,28 @@
+package com.dialog.security.oauth2;
+
+/**
+ * 소셜 로그인 카운터 이름/태그 (성공/실패 핸들러 공용)
+ * - dialog.oauth2.login{provider=google|kakao, outcome=success|error|failure}
+ *   error: 가입/토큰 발급 중 예외, failure: 제공자 인증 자체 실패
+ */
+final class OAuth2LoginMetrics {
+
+    static final String METRIC = "dialog.oauth2.login";
+
+    // 콜백 경로 /login/oauth2/code/{registrationId}
+    private static final String CALLBACK_PREFIX = "/login/oauth2/code/";
+
+    private OAuth2LoginMetrics() {
+    }
+
+    // 실패 시에는 인증 토큰이 없으므로 콜백 URI 에서 제공자 추출
+    static String providerOf(String requestUri) {
+        int index = requestUri.indexOf(CALLBACK_PREFIX);
+        if (index < 0) {
+            return "unknown";
+        }
+        String provider = requestUri.substring(index + CALLBACK_PREFIX.length());
+        int slash = provider.indexOf('/');
+        return slash < 0 ? provider : provider.substring(0, slash);
+    }
+}
@@ -0,0 +1,84 @@
+package com.dialog.security.oauth2;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.stereotype.Component;
+
+import com.dialog.audit.domain.AuditEventType;
+import com.dialog.audit.service.AuditEventPublisher;
+import com.dialog.exception.AuthException;
+import com.dialog.security.jwt.JwtTokenProvider;
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.TokenResponse;
+import com.dialog.token.service.RefreshTokenService;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.SocialProfile;
+import com.dialog.user.service.MeetUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소셜 로그인(google, kakao) 성공 처리
+ * - 제공자 프로필로 사용자를 가입/갱신(upsert)하고 액세스 토큰 + 리프레시 토큰을 JSON 으로 응답한다
+ * - OIDC(google) 와 일반 OAuth2(kakao) 모두 여기서 처리하므로 별도 UserService 가 필요 없다
+ * - 제공자별 결과를 dialog.oauth2.login{provider, outcome=success|error} 카운터와 감사 이벤트로 기록
+ * - 컨트롤러 밖(필터)이라 GlobalExceptionHandler 를 거치지 않으므로 AuthException(이메일 충돌 409 등)은 여기서 응답한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final MeetUserService meetUserService;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AuditEventPublisher auditEventPublisher;
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
+                                        Authentication authentication) throws IOException {
+        OAuth2AuthenticationToken token = (OAuth2AuthenticationToken) authentication;
+        String provider = token.getAuthorizedClientRegistrationId();
+        SocialProfile profile = SocialProfile.of(provider, token.getPrincipal().getAttributes());
+        log.debug("{} 소셜 로그인 성공: {}", profile.socialType(), profile.snsId());
+
+        MeetUser user;
+        RefreshToken refreshToken;
+        try {
+            user = meetUserService.upsertSocialUser(profile);
+            refreshToken = refreshTokenService.createRefreshToken(user);
+        } catch (RuntimeException e) {
+            meterRegistry.counter(OAuth2LoginMetrics.METRIC, "provider", provider, "outcome", "error").increment();
+            auditEventPublisher.publish(AuditEventType.SOCIAL_LOGIN_FAILURE, null, profile.email(),
+                    "provider=" + provider + " error=" + e.getClass().getSimpleName());
+            if (e instanceof AuthException authException) {
+                response.setStatus(authException.getStatus().value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getOutputStream().write(authException.getBody());
+                return;
+            }
+            throw e;
+        }
+        meterRegistry.counter(OAuth2LoginMetrics.METRIC, "provider", provider, "outcome", "success").increment();
+        auditEventPublisher.publish(AuditEventType.SOCIAL_LOGIN, user.getId(), user.getEmail(), "provider=" + provider);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(),
+                new TokenResponse(jwtTokenProvider.createAccessToken(user), refreshToken.getRefreshToken()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.dialog.security.ratelimit;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dialog.exception.RequestThrottledException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로그인/토큰 재발급 경로 요청 빈도 제한기
+ * - 로그인은 이메일별, 클라이언트 IP별로 각각 제한하고 재발급은 IP별로 제한한다
+ * - PasswordEncoder.matches(BCrypt) 나 리프레시 토큰 조회 전에 호출해, 크리덴셜 스터핑 트래픽이
+ *   해싱 CPU 를 소모하지 않고 거절되도록 한다
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final TokenBucketLimiter loginByEmail;
+    private final TokenBucketLimiter loginByIp;
+    private final TokenBucketLimiter refreshByIp;
+
+    // 거절 카운터 (limit 태그로 구분)
+    private final Counter throttledLoginByEmail;
+    private final Counter throttledLoginByIp;
+    private final Counter throttledRefreshByIp;
+
+    public LoginRateLimiter(
+            @Value("${dialog.security.rate-limit.login-per-email.per-minute:10}") int loginEmailPerMinute,
+            @Value("${dialog.security.rate-limit.login-per-email.burst:5}") int loginEmailBurst,
+            @Value("${dialog.security.rate-limit.login-per-ip.per-minute:60}") int loginIpPerMinute,
+            @Value("${dialog.security.rate-limit.login-per-ip.burst:20}") int loginIpBurst,
+            @Value("${dialog.security.rate-limit.refresh-per-ip.per-minute:120}") int refreshIpPerMinute,
+            @Value("${dialog.security.rate-limit.refresh-per-ip.burst:30}") int refreshIpBurst,
+            @Value("${dialog.security.rate-limit.max-keys:100000}") long maxKeys,
+            MeterRegistry meterRegistry) {
+        this.loginByEmail = new TokenBucketLimiter(loginEmailPerMinute, loginEmailBurst, maxKeys);
+        this.loginByIp = new TokenBucketLimiter(loginIpPerMinute, loginIpBurst, maxKeys);
+        this.refreshByIp = new TokenBucketLimiter(refreshIpPerMinute, refreshIpBurst, maxKeys);
+
+        this.throttledLoginByEmail = meterRegistry.counter("dialog.rate-limit.throttled", "limit", "login-per-email");
+        this.throttledLoginByIp = meterRegistry.counter("dialog.rate-limit.throttled", "limit", "login-per-ip");
+        this.throttledRefreshByIp = meterRegistry.counter("dialog.rate-limit.throttled", "limit", "refresh-per-ip");
+        Gauge.builder("dialog.rate-limit.tracked-keys", this, LoginRateLimiter::trackedKeys)
+                .description("버킷을 유지 중인 이메일/IP 키 수 (제한별 최대 " + maxKeys + ")")
+                .register(meterRegistry);
+    }
+
+    // 1. 로그인 시도 허용 여부 (초과 시 RequestThrottledException)
+    public void checkLogin(String email, String clientIp) {
+        if (!loginByIp.tryAcquire(clientIp)) {
+            throttledLoginByIp.increment();
+            throw RequestThrottledException.INSTANCE;
+        }
+        if (email != null && !loginByEmail.tryAcquire(email.toLowerCase(Locale.ROOT))) {
+            throttledLoginByEmail.increment();
+            throw RequestThrottledException.INSTANCE;
+        }
+    }
+
+    // 2. 토큰 재발급 허용 여부 (초과 시 RequestThrottledException)
+    public void checkRefresh(String clientIp) {
+        if (!refreshByIp.tryAcquire(clientIp)) {
+            throttledRefreshByIp.increment();
+            throw RequestThrottledException.INSTANCE;
+        }
+    }
+
+    // 3. 추적 중인 키 수 (게이지)
+    private long trackedKeys() {
+        return loginByEmail.trackedKeys() + loginByIp.trackedKeys() + refreshByIp.trackedKeys();
+    }
+}
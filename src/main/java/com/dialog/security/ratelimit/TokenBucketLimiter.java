@@ -0,0 +1,50 @@
+package com.dialog.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 키별 토큰 버킷 (GCRA: Generic Cell Rate Algorithm)
+ * - 버킷 상태는 "다음 요청이 허용되는 이론적 도착 시각(TAT)" long 하나이며 CAS 로만 갱신한다 (락 없음)
+ * - 키 테이블은 최대 크기와 유휴 시간으로 축출되어 키가 무한히 늘어나지 않는다
+ * - 거절 판단은 해시 조회 + 시각 비교 몇 번으로 끝난다
+ */
+class TokenBucketLimiter {
+
+    private final long emissionIntervalNanos; // 토큰 1개가 채워지는 간격
+    private final long burstNanos;            // 한 번에 허용되는 버스트 (burst * 간격)
+    private final Cache<String, AtomicLong> buckets;
+
+    TokenBucketLimiter(int permitsPerMinute, int burst, long maxKeys) {
+        this.emissionIntervalNanos = Duration.ofMinutes(1).toNanos() / Math.max(1, permitsPerMinute);
+        this.burstNanos = emissionIntervalNanos * Math.max(1, burst);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstNanos).plusMinutes(1)) // 버킷이 가득 찬 뒤에는 상태가 필요 없음
+                .build();
+    }
+
+    // 허용되면 true (버킷에서 토큰 1개 소비)
+    boolean tryAcquire(String key) {
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+        while (true) {
+            long current = tat.get();
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = base + emissionIntervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    long trackedKeys() {
+        return buckets.estimatedSize();
+    }
+}
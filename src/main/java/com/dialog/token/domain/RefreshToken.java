@@ -4,6 +4,9 @@ import java.time.LocalDateTime;
 
 
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import com.dialog.user.domain.MeetUser;
 
 import jakarta.persistence.Column;
@@ -12,9 +15,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,15 +30,32 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "refresh_token")
+@Table(name = "refresh_token",
+       indexes = {
+           @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"), // 만료 토큰 정리용
+           @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),   // 재사용 감지 시 패밀리 폐기용
+           @Index(name = "idx_refresh_token_revoked_expires_at", columnList = "revoked, expires_at") // 사용 가능/폐기 토큰 수 게이지용
+       })
 public class RefreshToken {
 
+    // 풀링 시퀀스(50개 단위 할당): IDENTITY 와 달리 INSERT 를 JDBC 배치로 묶을 수 있다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = 50)
     private Long id; // 리프레시 토큰 PK
 
-    @Column(nullable = false, length = 512, unique = true)
-    private String refreshToken; // 실제 리프레시 토큰 문자열
+    // 리프레시 토큰의 SHA-256 다이제스트(32바이트 고정폭). 조회와 유니크 인덱스는 이 컬럼만 사용
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "token_hash", length = TokenDigest.LENGTH, unique = true)
+    private byte[] tokenHash;
+
+    // 해시 도입 이전의 평문 토큰 컬럼. RefreshTokenHashBackfill 이 다이제스트로 옮긴 뒤 NULL 로 비운다 (신규 발급분은 저장 안 함)
+    @Column(name = "refresh_token", length = 512)
+    private String legacyToken;
+
+    // 발급 직후 클라이언트에게 내려줄 평문 토큰 (DB에는 저장하지 않음)
+    @Transient
+    private String refreshToken;
 
     @Column(nullable = false)
     private LocalDateTime issuedAt; // 발급 시각
@@ -43,19 +66,25 @@ public class RefreshToken {
     @Column(nullable = false)
     private boolean revoked; // 토큰 만료/사용 불가 상태
 
+    // 토큰 패밀리 ID: 최초 로그인 시 발급되고 회전(rotate)으로 이어지는 토큰들이 공유 (재사용 감지 시 일괄 폐기 단위)
+    @Column(name = "family_id", length = 36)
+    private String familyId;
+
     // MeetUser와 다대일(N:1) 관계 (user_id FK)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private MeetUser user;
 
     @Builder
-    public RefreshToken(Long id, String refreshToken, LocalDateTime issuedAt,
-                        LocalDateTime expiresAt, boolean revoked, MeetUser user) {
+    public RefreshToken(Long id, byte[] tokenHash, String refreshToken, LocalDateTime issuedAt,
+                        LocalDateTime expiresAt, boolean revoked, String familyId, MeetUser user) {
         this.id = id;
+        this.tokenHash = tokenHash;
         this.refreshToken = refreshToken;
         this.issuedAt = issuedAt;
         this.expiresAt = expiresAt;
         this.revoked = revoked;
+        this.familyId = familyId;
         this.user = user;
     }
 }
@@ -0,0 +1,7 @@
+package com.dialog.token.domain;
+
+/**
+ * 만료 전 리프레시 토큰 수 (사용 가능 / 폐기됨), 게이지 갱신용
+ */
+public record RefreshTokenCounts(long active, long revoked) {
+}
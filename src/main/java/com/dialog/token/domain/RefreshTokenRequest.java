@@ -0,0 +1,18 @@
+package com.dialog.token.domain;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 토큰 재발급 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RefreshTokenRequest {
+
+    @NotBlank
+    private String refreshToken;
+}
@@ -0,0 +1,9 @@
+package com.dialog.token.domain;
+
+import com.dialog.user.domain.MeetUserSummary;
+
+/**
+ * 토큰 회전 결과: 새 리프레시 토큰 평문 + 액세스 토큰 발급에 필요한 소유자 요약
+ */
+public record RefreshTokenRotation(String refreshToken, MeetUserSummary user) {
+}
@@ -0,0 +1,42 @@
+package com.dialog.token.domain;
+
+import java.time.LocalDateTime;
+
+import com.dialog.user.domain.MeetUser;
+
+/**
+ * 리프레시 토큰 검증 캐시 항목 (불변 스냅숏)
+ * - revoked 는 checkedAtNanos(System.nanoTime) 시점에 저장소에서 읽은 값이다.
+ *   이 노드의 폐기는 캐시를 바로 비우고, 다른 노드의 폐기는 RefreshTokenCache 가 정한 주기로 다시 확인한다
+ * - user 는 지연 로딩 프록시(준영속)라 id 외의 필드는 읽을 수 없다
+ */
+public record RefreshTokenSnapshot(Long id, LocalDateTime issuedAt, LocalDateTime expiresAt,
+                                   String familyId, MeetUser user, boolean revoked, long checkedAtNanos) {
+
+    public static RefreshTokenSnapshot of(RefreshToken refreshToken, long checkedAtNanos) {
+        return new RefreshTokenSnapshot(refreshToken.getId(), refreshToken.getIssuedAt(), refreshToken.getExpiresAt(),
+                refreshToken.getFamilyId(), refreshToken.getUser(), refreshToken.isRevoked(), checkedAtNanos);
+    }
+
+    public Long userId() {
+        return user.getId(); // 프록시 id 조회는 초기화 없음
+    }
+
+    // 폐기 여부를 다시 확인한 결과
+    public RefreshTokenSnapshot rechecked(boolean revoked, long checkedAtNanos) {
+        return new RefreshTokenSnapshot(id, issuedAt, expiresAt, familyId, user, revoked, checkedAtNanos);
+    }
+
+    // 호출자에게 넘길 새 엔티티 (호출자가 바꿔도 캐시에 영향 없음)
+    public RefreshToken toRefreshToken(TokenDigest digest) {
+        return RefreshToken.builder()
+                .id(id)
+                .tokenHash(digest.bytes())
+                .issuedAt(issuedAt)
+                .expiresAt(expiresAt)
+                .revoked(revoked)
+                .familyId(familyId)
+                .user(user)
+                .build();
+    }
+}
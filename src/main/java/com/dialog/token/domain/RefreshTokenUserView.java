@@ -0,0 +1,18 @@
+package com.dialog.token.domain;
+
+import java.time.LocalDateTime;
+
+import com.dialog.user.domain.MeetUserSummary;
+import com.dialog.user.domain.UserRole;
+
+/**
+ * 리프레시 토큰 상태 + 소유자 요약 프로젝션 (refresh_token JOIN meet_user 한 번으로 조회)
+ * - 회전 흐름에서 엔티티 두 개(토큰, 지연 로딩 사용자) 대신 사용
+ */
+public record RefreshTokenUserView(boolean revoked, LocalDateTime expiresAt, String familyId,
+                                   Long userId, String email, String name, UserRole role) {
+
+    public MeetUserSummary user() {
+        return new MeetUserSummary(userId, email, name, role);
+    }
+}
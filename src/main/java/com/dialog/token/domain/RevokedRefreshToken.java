@@ -0,0 +1,8 @@
+package com.dialog.token.domain;
+
+/**
+ * 한 건 폐기로 폐기 상태가 된 토큰의 소유자와 패밀리 (감사 로그용)
+ * - familyId 는 패밀리 도입 이전 토큰이면 null
+ */
+public record RevokedRefreshToken(Long userId, String familyId) {
+}
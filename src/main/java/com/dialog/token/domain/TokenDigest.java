@@ -0,0 +1,64 @@
+package com.dialog.token.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * 리프레시 토큰 평문의 SHA-256 다이제스트(32바이트) 값 객체
+ * - DB에는 평문 대신 이 값만 저장/조회하며, 캐시 키로도 그대로 사용한다 (equals/hashCode 가 내용 기준)
+ */
+public final class TokenDigest {
+
+    // SHA-256 출력 길이 (BINARY(32) 컬럼 길이와 동일)
+    public static final int LENGTH = 32;
+
+    // MessageDigest 는 스레드 안전하지 않으므로 스레드별로 재사용 (매 요청 getInstance 비용 제거)
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final byte[] value;
+    private final int hash;
+
+    private TokenDigest(byte[] value) {
+        this.value = value;
+        this.hash = Arrays.hashCode(value);
+    }
+
+    // 1. 평문 토큰 -> 다이제스트
+    public static TokenDigest of(String token) {
+        return new TokenDigest(SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // 2. DB 등에서 읽어온 다이제스트 바이트를 감싸기
+    public static TokenDigest wrap(byte[] value) {
+        if (value == null || value.length != LENGTH) {
+            throw new IllegalArgumentException("토큰 다이제스트는 " + LENGTH + "바이트여야 합니다.");
+        }
+        return new TokenDigest(value);
+    }
+
+    // 내부 배열을 그대로 반환하므로 호출 측에서 변경하면 안 된다
+    public byte[] bytes() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof TokenDigest other && Arrays.equals(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,16 @@
+package com.dialog.token.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인/재발급 응답 (액세스 토큰 + 리프레시 토큰)
+ */
+@Getter
+@AllArgsConstructor
+public class TokenResponse {
+
+    private String accessToken;
+
+    private String refreshToken;
+}
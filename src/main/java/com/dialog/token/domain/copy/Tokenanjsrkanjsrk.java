@@ -1,7 +0,0 @@
-package com.dialog.token.domain.copy;
-
-public class Tokenanjsrkanjsrk {
-	
-//	anjsrkxhzms = anjsrk;
-
-}
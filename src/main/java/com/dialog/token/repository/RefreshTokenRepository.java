@@ -4,14 +4,102 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.RefreshTokenUserView;
+import com.dialog.token.domain.RevokedRefreshToken;
 
+// 검증 경로 조회(findByTokenHash, findRevokedByTokenHash)만 readOnly 트랜잭션 -> 트랜잭션 밖 호출은 replica
+// (회전/폐기처럼 쓰기 트랜잭션 안에서 부르면 primary, 복제 지연 보호는 ReplicaReadGuard 가 담당)
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+    // 토큰 다이제스트(SHA-256)로 조회 - 32바이트 고정폭 유니크 인덱스 사용
+    @Transactional(readOnly = true)
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    // 폐기 여부만 조회 (검증 캐시 항목 재확인, 토큰 다이제스트 유니크 인덱스 + PK 한 건)
+    @Transactional(readOnly = true)
+    @Query("select t.revoked from RefreshToken t where t.tokenHash = :tokenHash")
+    Optional<Boolean> findRevokedByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    // 폐기 대상의 소유자/패밀리 조회 (둘 다 발급 후 바뀌지 않으므로 폐기 UPDATE 전에 읽어도 된다)
+    @Query("select new com.dialog.token.domain.RevokedRefreshToken(t.user.id, t.familyId) "
+         + "from RefreshToken t where t.tokenHash = :tokenHash")
+    Optional<RevokedRefreshToken> findRevocationTargetByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    // 회전용: 토큰 상태 + 소유자 요약을 조인 한 번으로 조회 (엔티티/비밀번호 해시를 읽지 않음)
+    @Query("select new com.dialog.token.domain.RefreshTokenUserView(t.revoked, t.expiresAt, t.familyId, u.id, u.email, u.name, u.role) "
+         + "from RefreshToken t join t.user u where t.tokenHash = :tokenHash")
+    Optional<RefreshTokenUserView> findUserViewByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    // 아직 다이제스트로 옮겨지지 않은 평문 토큰 행 조회 (마이그레이션 백필용)
+    @Query("select t from RefreshToken t where t.tokenHash is null and t.legacyToken is not null order by t.id")
+    List<RefreshToken> findLegacyTokens(Pageable pageable);
     
     List<RefreshToken> findByUserId(Long userId);
     
-    void deleteByExpiresAtBefore(LocalDateTime now); // 만료된 토큰 삭제용
+    // 만료된 토큰 삭제용 (엔티티를 전부 읽어 한 건씩 지우므로 대량 삭제에는 findExpiredIds + deleteAllByIdInBatch 사용)
+    void deleteByExpiresAtBefore(LocalDateTime now);
+
+    // now 이전에 만료된 토큰 id 를 만료 순으로 조회 (expires_at 인덱스 범위 스캔, 청크 삭제용)
+    @Query("select t.id from RefreshToken t where t.expiresAt < :now order by t.expiresAt")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 만료 인덱스 적재용 (id, expiresAt) 키셋 페이지 조회 - [from, until) 에 만료되는 행만 expires_at 인덱스 범위 스캔
+    // (expiresAt, id) 순으로 (afterExpiresAt, afterId) 다음부터 읽는다 (첫 페이지는 afterExpiresAt = from, afterId = 0)
+    @Query("select t.id as id, t.expiresAt as expiresAt from RefreshToken t "
+         + "where t.expiresAt >= :from and t.expiresAt < :until "
+         + "and (t.expiresAt > :afterExpiresAt or (t.expiresAt = :afterExpiresAt and t.id > :afterId)) "
+         + "order by t.expiresAt, t.id")
+    List<RefreshTokenExpiry> findExpiryEntriesBetween(@Param("from") LocalDateTime from,
+                                                      @Param("until") LocalDateTime until,
+                                                      @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
+
+    // 토큰 id 와 만료 시각만 담는 프로젝션 (엔티티/사용자 연관을 읽지 않음)
+    interface RefreshTokenExpiry {
+        Long getId();
+
+        LocalDateTime getExpiresAt();
+    }
+
+    // 만료 전 폐기 토큰 수 - (revoked, expires_at) 인덱스 범위만 읽음 (폐기 토큰 수에 비례, 게이지용)
+    @Query("select count(t) from RefreshToken t where t.revoked = true and t.expiresAt > :now")
+    long countRevokedExpiringAfter(@Param("now") LocalDateTime now);
+
+    // 만료 전 사용 가능 토큰 수 - 같은 (revoked, expires_at) 인덱스의 revoked = false 범위만 읽음 (게이지용)
+    @Query("select count(t) from RefreshToken t where t.revoked = false and t.expiresAt > :now")
+    long countActiveExpiringAfter(@Param("now") LocalDateTime now);
+
+    // 토큰 한 건 폐기 - 조건부 UPDATE 한 번 (이미 폐기된 토큰이면 0 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true where t.tokenHash = :tokenHash and t.revoked = false")
+    int revokeByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    // 사용자의 모든 토큰 폐기 (모든 기기 로그아웃) - user_id FK 인덱스 사용
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true where t.user.id = :userId and t.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    // 특정 시각 이전에 발급된 모든 토큰 폐기 (키 유출 등 일괄 무효화)
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true where t.issuedAt < :issuedBefore and t.revoked = false")
+    int revokeAllIssuedBefore(@Param("issuedBefore") LocalDateTime issuedBefore);
+
+    // 회전용 compare-and-set: 폐기되지 않았고 만료 전인 경우에만 폐기 표시 (1이면 회전 성공, 0이면 경쟁에서 졌거나 무효)
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true "
+         + "where t.tokenHash = :tokenHash and t.revoked = false and t.expiresAt > :now")
+    int revokeIfActive(@Param("tokenHash") byte[] tokenHash, @Param("now") LocalDateTime now);
+
+    // 같은 패밀리의 모든 토큰 폐기 (재사용 감지 시)
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId and t.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
 }
@@ -0,0 +1,162 @@
+package com.dialog.token.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.dialog.exception.AuthException;
+import com.dialog.exception.RefreshTokenExpiredException;
+import com.dialog.exception.RefreshTokenMissingException;
+import com.dialog.exception.RefreshTokenReusedException;
+import com.dialog.exception.RefreshTokenRevokedException;
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.RefreshTokenRotation;
+import com.dialog.user.domain.MeetUser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * RefreshTokenService 메트릭 데코레이터 (@Primary, 실제 처리는 RefreshTokenServiceImpl)
+ * - 모든 메서드를 dialog.token.operation 타이머로 기록: operation(메서드) x outcome(결과) 태그
+ * - outcome: valid / revoked / expired / missing / reused (인증 예외 종류), issued / purged, 그 외 예외는 error
+ * - 타이머는 (operation, outcome) 조합별로 한 번만 등록해 재사용 (호출마다 레지스트리 조회 없음)
+ */
+@Service
+@Primary
+public class MeteredRefreshTokenService implements RefreshTokenService {
+
+    private static final String METRIC = "dialog.token.operation";
+
+    private final RefreshTokenService delegate;
+    private final MeterRegistry meterRegistry;
+
+    private final OperationTimers create = new OperationTimers("create");
+    private final OperationTimers find = new OperationTimers("find");
+    private final OperationTimers verify = new OperationTimers("verify");
+    private final OperationTimers revoke = new OperationTimers("revoke");
+    private final OperationTimers revokeAllByUser = new OperationTimers("revoke_all_by_user");
+    private final OperationTimers revokeAllIssuedBefore = new OperationTimers("revoke_all_issued_before");
+    private final OperationTimers purge = new OperationTimers("purge");
+    private final OperationTimers rotate = new OperationTimers("rotate");
+
+    public MeteredRefreshTokenService(@Qualifier("refreshTokenServiceImpl") RefreshTokenService delegate,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public RefreshToken createRefreshToken(MeetUser user) {
+        return timed(create, () -> delegate.createRefreshToken(user), result -> "issued");
+    }
+
+    // 조회 결과가 있으면 토큰 상태로 outcome 구분 (검증과 같은 기준)
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        return timed(find, () -> delegate.findByToken(token), result -> result.map(this::stateOf).orElse("missing"));
+    }
+
+    @Override
+    public RefreshToken verifyTokenValidity(String token) {
+        return timed(verify, () -> delegate.verifyTokenValidity(token), result -> "valid");
+    }
+
+    @Override
+    public int revokeToken(String token) {
+        return timed(revoke, () -> delegate.revokeToken(token), count -> count > 0 ? "revoked" : "missing");
+    }
+
+    @Override
+    public int revokeAllByUser(Long userId) {
+        return timed(revokeAllByUser, () -> delegate.revokeAllByUser(userId), count -> "revoked");
+    }
+
+    @Override
+    public int revokeAllIssuedBefore(LocalDateTime issuedBefore) {
+        return timed(revokeAllIssuedBefore, () -> delegate.revokeAllIssuedBefore(issuedBefore), count -> "revoked");
+    }
+
+    @Override
+    public void deleteExpiredTokens() {
+        timed(purge, () -> {
+            delegate.deleteExpiredTokens();
+            return null;
+        }, result -> "purged");
+    }
+
+    @Override
+    public RefreshTokenRotation rotate(String oldToken) {
+        return timed(rotate, () -> delegate.rotate(oldToken), result -> "valid");
+    }
+
+    // 호출 시간 측정 후 결과/예외에 따른 outcome 태그로 기록
+    private <T> T timed(OperationTimers timers, Supplier<T> call, Function<? super T, String> outcome) {
+        long start = System.nanoTime();
+        String result = "error";
+        try {
+            T value = call.get();
+            result = outcome.apply(value);
+            return value;
+        } catch (AuthException e) {
+            result = outcomeOf(e);
+            throw e;
+        } finally {
+            timers.record(result, System.nanoTime() - start);
+        }
+    }
+
+    private String stateOf(RefreshToken token) {
+        if (token.isRevoked()) {
+            return "revoked";
+        }
+        return token.getExpiresAt().isBefore(LocalDateTime.now()) ? "expired" : "valid";
+    }
+
+    private static String outcomeOf(AuthException e) {
+        if (e instanceof RefreshTokenMissingException) {
+            return "missing";
+        }
+        if (e instanceof RefreshTokenRevokedException) {
+            return "revoked";
+        }
+        if (e instanceof RefreshTokenExpiredException) {
+            return "expired";
+        }
+        if (e instanceof RefreshTokenReusedException) {
+            return "reused";
+        }
+        return "error";
+    }
+
+    // 메서드 하나의 outcome 별 타이머
+    private final class OperationTimers {
+
+        private final String operation;
+        private final Map<String, Timer> byOutcome = new ConcurrentHashMap<>();
+
+        OperationTimers(String operation) {
+            this.operation = operation;
+        }
+
+        void record(String outcome, long nanos) {
+            Timer timer = byOutcome.get(outcome);
+            if (timer == null) {
+                timer = byOutcome.computeIfAbsent(outcome, o -> Timer.builder(METRIC)
+                        .description("RefreshTokenService 호출 시간")
+                        .tag("operation", operation)
+                        .tag("outcome", o)
+                        .register(meterRegistry));
+            }
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
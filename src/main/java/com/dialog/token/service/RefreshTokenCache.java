@@ -0,0 +1,114 @@
+package com.dialog.token.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dialog.token.domain.RefreshTokenSnapshot;
+import com.dialog.token.domain.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 리프레시 토큰 검증 인메모리 캐시 (토큰 다이제스트 -> 폐기 여부를 포함한 불변 스냅숏)
+ * - 크기 제한 + TTL 로 축출하며, 항목 수명은 토큰의 expiresAt 을 넘지 않는다 (이미 만료된 토큰은 수명 0)
+ * - 이 노드의 폐기는 invalidate 로 즉시 반영한다 (트랜잭션 안이면 종료 후에도 한 번 더 비움)
+ * - 다른 노드의 폐기는 알 수 없으므로, 폐기되지 않은 항목은 revocation-check-interval 이 지나면
+ *   적중 시 폐기 여부만 다시 확인한다 (토큰당 주기마다 한 번, 적중마다가 아님)
+ *   -> 다른 노드에서 폐기된 토큰이 이 노드에서 통과할 수 있는 시간의 상한 (+ replica 복제 지연)
+ * - 적중/실패/축출/크기는 cache.*{cache=refresh_token} 메트릭으로 노출 (캐시 크기 산정용)
+ */
+@Component
+public class RefreshTokenCache {
+
+    private final Cache<TokenDigest, RefreshTokenSnapshot> cache;
+    private final long revocationCheckNanos;
+
+    public RefreshTokenCache(@Value("${dialog.token.cache.max-size:100000}") long maxSize,
+                             @Value("${dialog.token.cache.ttl:5m}") Duration ttl,
+                             @Value("${dialog.token.cache.revocation-check-interval:5s}") Duration revocationCheckInterval,
+                             MeterRegistry meterRegistry) {
+        long ttlNanos = ttl.toNanos();
+        this.revocationCheckNanos = revocationCheckInterval.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<TokenDigest, RefreshTokenSnapshot>() {
+                    @Override
+                    public long expireAfterCreate(TokenDigest key, RefreshTokenSnapshot value, long currentTime) {
+                        long untilExpiry = Duration.between(LocalDateTime.now(), value.expiresAt()).toNanos();
+                        return Math.max(0L, Math.min(ttlNanos, untilExpiry));
+                    }
+
+                    // 폐기 여부 재확인으로 바뀐 항목은 남은 수명을 그대로 유지
+                    @Override
+                    public long expireAfterUpdate(TokenDigest key, RefreshTokenSnapshot value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(TokenDigest key, RefreshTokenSnapshot value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "refresh_token");
+    }
+
+    // 1. 캐시 조회, 없으면 loader 로 적재 (같은 키에 대한 적재와 무효화는 원자적으로 직렬화됨)
+    //    loader 가 null 을 돌려주면 캐시하지 않고 null 반환
+    public RefreshTokenSnapshot get(TokenDigest key, Function<TokenDigest, RefreshTokenSnapshot> loader) {
+        return cache.get(key, loader);
+    }
+
+    // 1-1. 폐기 여부를 다시 확인할 때가 된 항목인지 (이미 폐기된 항목은 되돌아가지 않으므로 확인하지 않음)
+    public boolean needsRevocationCheck(RefreshTokenSnapshot snapshot) {
+        return !snapshot.revoked() && System.nanoTime() - snapshot.checkedAtNanos() >= revocationCheckNanos;
+    }
+
+    // 1-2. 재확인 결과 반영 (그 사이 무효화/교체된 항목이면 다시 넣지 않음)
+    public void replace(TokenDigest key, RefreshTokenSnapshot expected, RefreshTokenSnapshot rechecked) {
+        cache.asMap().replace(key, expected, rechecked);
+    }
+
+    // 2. 단일 토큰 무효화 (폐기 시, 또는 저장소에서 사라진 토큰)
+    public void invalidate(TokenDigest key) {
+        cache.invalidate(key);
+        afterCompletion(() -> cache.invalidate(key));
+    }
+
+    // 3. 조건에 맞는 항목 무효화 (사용자 전체/발급 시각 기준 일괄 폐기 시, 캐시 크기에 비례)
+    public void invalidateIf(Predicate<RefreshTokenSnapshot> condition) {
+        cache.asMap().values().removeIf(condition);
+        afterCompletion(() -> cache.asMap().values().removeIf(condition));
+    }
+
+    // 4. 만료된 항목 즉시 정리 (만료 인덱스/정리 작업이 만료분을 지운 직후 호출)
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+
+    // 진행 중인 트랜잭션이 있으면 종료 직후에 한 번 더 실행
+    private void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
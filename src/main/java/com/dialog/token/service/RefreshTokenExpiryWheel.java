@@ -0,0 +1,210 @@
+package com.dialog.token.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.token.repository.RefreshTokenRepository;
+import com.dialog.token.repository.RefreshTokenRepository.RefreshTokenExpiry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰 만료 시각 버킷 인덱스 (시간 버킷 타이밍 휠, jpa 저장소 전용)
+ * - 발급 시 토큰 id 를 만료 시각이 속한 tick 폭 버킷에 넣고, 매 tick 마다 완전히 지난 버킷만 꺼내
+ *   그 id 들을 IN 절 DELETE 로 지운다 -> 실행 비용이 테이블 크기가 아니라 만료된 토큰 수에 비례
+ * - 메모리에는 지금부터 dialog.token.expiry.horizon 안에 만료되는 토큰만 둔다 (적재 창 [시작, loadedUntil))
+ *   - 기동 시 창 범위의 (id, expires_at) 을 expires_at 인덱스 키셋 페이지로 읽어 채운다
+ *   - 매 tick 창 끝이 horizon 의 절반 안으로 다가오면 [loadedUntil, now + horizon) 범위를 추가로 읽는다
+ *   - 발급 시에는 만료 시각이 이미 적재된 창 안일 때만 등록하고, 창 밖 토큰은 나중에 범위 적재로 들어온다
+ *   -> 메모리는 테이블 크기가 아니라 horizon 동안 만료되는 토큰 수에 비례
+ * - 창 끝을 먼저 옮긴 뒤 범위를 읽으므로 그 사이 발급된 토큰은 등록과 적재 양쪽에 들어갈 수 있다
+ *   (같은 id 를 두 번 지우는 것은 무해). 반대로 창 이동 직전에 등록을 건너뛰고 적재 쿼리 뒤에 커밋된 토큰처럼
+ *   놓친 행, 기동 시점에 이미 만료돼 있던 행은 RefreshTokenPurgeScheduler 의 주기 정리가 뒷받침한다
+ * - 버킷은 id 만 long 배열로 보관 (토큰당 약 8바이트). 만료 시각은 바뀌지 않으므로 재확인 없이 지운다
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "dialog.token.store.type", havingValue = "jpa", matchIfMissing = true)
+public class RefreshTokenExpiryWheel implements ApplicationRunner {
+
+    // 범위 적재 페이지 크기
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenCache refreshTokenCache;
+    private final TransactionTemplate transactionTemplate;
+    private final long tickMillis;
+    private final long horizonMillis;
+    private final int chunkSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // 버킷 번호(만료 epoch millis / tick) -> 그 구간에 만료되는 토큰 id
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+
+    // 적재 창의 끝 (epoch millis, 이 시각 이전에 만료되는 토큰만 추적). 첫 적재 전에는 아무것도 등록하지 않음
+    private volatile long loadedUntil = Long.MIN_VALUE;
+
+    public RefreshTokenExpiryWheel(RefreshTokenRepository refreshTokenRepository,
+                                   RefreshTokenCache refreshTokenCache,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${dialog.token.expiry.tick:1m}") Duration tick,
+                                   @Value("${dialog.token.expiry.horizon:1h}") Duration horizon,
+                                   @Value("${dialog.token.purge.chunk-size:1000}") int chunkSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenCache = refreshTokenCache;
+        this.transactionTemplate = transactionTemplate;
+        this.tickMillis = tick.toMillis();
+        this.horizonMillis = Math.max(horizon.toMillis(), 2 * tickMillis); // 창은 최소 tick 두 개
+        this.chunkSize = chunkSize;
+    }
+
+    // 1. 발급된 토큰 등록: 만료 시각이 적재된 창 안일 때만 (O(1) + 버킷 탐색 O(log 버킷 수))
+    public void track(Long id, LocalDateTime expiresAt) {
+        long expiresAtMillis = toMillis(expiresAt);
+        if (expiresAtMillis < loadedUntil) {
+            add(id, expiresAtMillis);
+        }
+    }
+
+    // 2. 완전히 지난 버킷을 꺼내 청크 단위로 삭제하고 캐시의 만료 항목 정리, 창 끝이 가까우면 다음 범위 적재
+    //    삭제 요청 건수 반환
+    @Scheduled(fixedDelayString = "${dialog.token.expiry.tick:1m}", initialDelayString = "${dialog.token.expiry.tick:1m}")
+    public long fireExpired() {
+        long startNanos = System.nanoTime();
+        ConcurrentNavigableMap<Long, Bucket> due = buckets.headMap(bucketOf(System.currentTimeMillis()));
+        List<Long> chunk = new ArrayList<>(chunkSize);
+        long fired = 0;
+        Map.Entry<Long, Bucket> entry;
+        while ((entry = due.pollFirstEntry()) != null) {
+            for (long id : entry.getValue().drain()) {
+                chunk.add(id);
+                if (chunk.size() == chunkSize) {
+                    fired += delete(chunk);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            fired += delete(chunk);
+        }
+        if (fired > 0) {
+            refreshTokenCache.cleanUp();
+            log.info("만료 인덱스: 만료 리프레시 토큰 {}건 삭제, {}ms", fired, (System.nanoTime() - startNanos) / 1_000_000L);
+        }
+        long now = System.currentTimeMillis();
+        if (loadedUntil != Long.MIN_VALUE && loadedUntil - now < horizonMillis / 2) {
+            extendWindow(now);
+        }
+        return fired;
+    }
+
+    // 3. 기동 시 [now, now + horizon) 적재 (이미 만료된 행은 보조 정리 스케줄러 몫)
+    @Override
+    public void run(ApplicationArguments args) {
+        long now = System.currentTimeMillis();
+        loadedUntil = now; // 적재 범위의 시작, 여기서부터 창을 넓힌다
+        extendWindow(now);
+    }
+
+    // 창 끝을 now + horizon 으로 옮긴 뒤 [이전 끝, 새 끝) 범위를 읽어 등록
+    // (기동 적재가 첫 tick 보다 오래 걸려도 같은 범위를 두 번 읽지 않도록 직렬화)
+    private synchronized void extendWindow(long now) {
+        long startNanos = System.nanoTime();
+        long from = loadedUntil;
+        long until = now + horizonMillis;
+        if (until <= from) {
+            return;
+        }
+        loadedUntil = until;
+        long loaded = load(toDateTime(from), toDateTime(until));
+        log.info("만료 인덱스 적재: {} ~ {} 만료 토큰 {}건, 버킷 {}개, {}ms",
+                toDateTime(from), toDateTime(until), loaded, buckets.size(),
+                (System.nanoTime() - startNanos) / 1_000_000L);
+    }
+
+    // (expires_at, id) 키셋 페이지, 페이지마다 짧은 읽기 트랜잭션
+    private long load(LocalDateTime from, LocalDateTime until) {
+        LocalDateTime lastExpiresAt = from;
+        long lastId = 0L;
+        long loaded = 0;
+        while (true) {
+            LocalDateTime afterExpiresAt = lastExpiresAt;
+            long afterId = lastId;
+            List<RefreshTokenExpiry> page = transactionTemplate.execute(status ->
+                    refreshTokenRepository.findExpiryEntriesBetween(from, until, afterExpiresAt, afterId,
+                            PageRequest.of(0, LOAD_PAGE_SIZE)));
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            for (RefreshTokenExpiry entry : page) {
+                add(entry.getId(), toMillis(entry.getExpiresAt()));
+            }
+            loaded += page.size();
+            RefreshTokenExpiry last = page.get(page.size() - 1);
+            lastExpiresAt = last.getExpiresAt();
+            lastId = last.getId();
+            if (page.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+        }
+        return loaded;
+    }
+
+    private void add(long id, long expiresAtMillis) {
+        buckets.computeIfAbsent(bucketOf(expiresAtMillis), key -> new Bucket()).add(id);
+    }
+
+    private int delete(List<Long> ids) {
+        int count = ids.size();
+        transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.deleteAllByIdInBatch(ids));
+        ids.clear();
+        return count;
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+    }
+
+    // 버킷 b 는 [b * tick, (b + 1) * tick) 에 만료되는 토큰을 담으며, 현재 버킷보다 작은 버킷은 모두 지난 것
+    private long bucketOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, tickMillis);
+    }
+
+    // 한 tick 구간의 토큰 id (늘어나는 long 배열)
+    private static final class Bucket {
+
+        private long[] ids = new long[16];
+        private int size;
+
+        synchronized void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        synchronized long[] drain() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
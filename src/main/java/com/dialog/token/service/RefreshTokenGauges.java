@@ -0,0 +1,47 @@
+package com.dialog.token.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dialog.token.domain.RefreshTokenCounts;
+import com.dialog.token.store.RefreshTokenStore;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 전 리프레시 토큰 수 게이지 (dialog.token.active / dialog.token.revoked)
+ * - 스크레이프마다 세지 않고 dialog.token.metrics.refresh-interval 주기로 저장소의 저렴한 집계만 다시 읽는다
+ *   (jpa: (revoked, expires_at) 인덱스 범위 COUNT, mmap: 메모리 맵 레코드 순회)
+ * - 값은 마지막 갱신 시점 기준이므로 최대 refresh-interval 만큼 늦다
+ */
+@Component
+@Slf4j
+public class RefreshTokenGauges {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final AtomicLong active = new AtomicLong();
+    private final AtomicLong revoked = new AtomicLong();
+
+    public RefreshTokenGauges(RefreshTokenStore refreshTokenStore, MeterRegistry meterRegistry) {
+        this.refreshTokenStore = refreshTokenStore;
+        Gauge.builder("dialog.token.active", active, AtomicLong::get)
+                .description("만료 전이고 폐기되지 않은 리프레시 토큰 수 (주기 갱신)")
+                .register(meterRegistry);
+        Gauge.builder("dialog.token.revoked", revoked, AtomicLong::get)
+                .description("만료 전이지만 폐기된 리프레시 토큰 수 (주기 갱신)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${dialog.token.metrics.refresh-interval:1m}", initialDelayString = "${dialog.token.metrics.refresh-interval:1m}")
+    public void refresh() {
+        RefreshTokenCounts counts = refreshTokenStore.countLive(LocalDateTime.now());
+        active.set(counts.active());
+        revoked.set(counts.revoked());
+        log.debug("리프레시 토큰 게이지 갱신: 사용 가능 {}, 폐기 {}", counts.active(), counts.revoked());
+    }
+}
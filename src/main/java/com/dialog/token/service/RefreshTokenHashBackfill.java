@@ -0,0 +1,59 @@
+package com.dialog.token.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.TokenDigest;
+import com.dialog.token.repository.RefreshTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 평문 리프레시 토큰 -> SHA-256 다이제스트 마이그레이션 백필
+ * - 기동 시 token_hash 가 비어 있는 기존 행을 청크 단위로 다이제스트로 옮기고 평문 컬럼을 비운다
+ * - 모든 싱글톤 생성 직후(웹 서버가 요청을 받기 전)에 끝까지 실행한다: 조회는 token_hash 로만 하므로
+ *   백필 전에 요청을 받으면 기존 토큰이 모두 401 이 된다 (행이 많으면 그만큼 기동이 늦어진다)
+ * - 옮겨진 토큰은 기존 문자열 그대로 계속 유효하다 (조회 시 같은 다이제스트가 계산되므로)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenHashBackfill implements SmartInitializingSingleton {
+
+    // 한 트랜잭션에서 처리할 행 수 (락 유지 시간과 영속성 컨텍스트 크기 제한)
+    private static final int CHUNK_SIZE = 500;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long total = 0;
+        while (true) {
+            Integer migrated = transactionTemplate.execute(status -> migrateChunk());
+            if (migrated == null || migrated == 0) {
+                break;
+            }
+            total += migrated;
+        }
+        if (total > 0) {
+            log.info("평문 리프레시 토큰 {}건을 다이제스트로 마이그레이션했습니다.", total);
+        }
+    }
+
+    // 처리된 행은 조회 조건(token_hash is null)에서 빠지므로 항상 첫 페이지만 읽는다
+    private int migrateChunk() {
+        List<RefreshToken> legacyTokens = refreshTokenRepository.findLegacyTokens(PageRequest.of(0, CHUNK_SIZE));
+        for (RefreshToken rt : legacyTokens) {
+            rt.setTokenHash(TokenDigest.of(rt.getLegacyToken()).bytes());
+            rt.setLegacyToken(null); // 인덱스/테이블에 평문이 남지 않도록 비움
+        }
+        return legacyTokens.size(); // 변경 감지로 커밋 시 UPDATE
+    }
+}
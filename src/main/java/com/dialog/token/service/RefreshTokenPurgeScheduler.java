@@ -0,0 +1,25 @@
+package com.dialog.token.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 만료된 리프레시 토큰 주기적 정리 스케줄러
+ * - dialog.token.purge.cron 주기로 실행 (기본 1시간), dialog.token.purge.enabled=false 로 끌 수 있음
+ * - 평소 만료 삭제는 RefreshTokenExpiryWheel 이 맡고, 이 스케줄러는 놓친 행을 정리하는 보조 수단
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dialog.token.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenService refreshTokenService;
+
+    @Scheduled(cron = "${dialog.token.purge.cron:0 0 * * * *}")
+    public void purgeExpiredTokens() {
+        refreshTokenService.deleteExpiredTokens();
+    }
+}
@@ -0,0 +1,113 @@
+package com.dialog.token.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.token.repository.RefreshTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 리프레시 토큰 청크 단위 삭제기
+ * - 만료 토큰 id 를 expires_at 인덱스로 chunkSize 만큼 읽어 IN 절 DELETE 한 번으로 지운다
+ * - 청크마다 별도 트랜잭션이라 락은 짧게 잡히고, 엔티티를 영속성 컨텍스트에 올리지 않는다
+ * - 청크 사이에 pause 만큼 쉬고, 1회 실행이 timeBudget 을 넘으면 다음 실행으로 넘긴다
+ */
+@Component
+@Slf4j
+public class RefreshTokenPurger {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Duration timeBudget;
+
+    public RefreshTokenPurger(RefreshTokenRepository refreshTokenRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${dialog.token.purge.chunk-size:1000}") int chunkSize,
+                              @Value("${dialog.token.purge.pause:50ms}") Duration pause,
+                              @Value("${dialog.token.purge.time-budget:30s}") Duration timeBudget) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * now 이전에 만료된 토큰을 청크 단위로 삭제
+     * @param now 기준 시각
+     * @return 삭제 건수, 청크 수, 소요 시간, 끝까지 삭제했는지 여부
+     */
+    public PurgeResult purgeExpired(LocalDateTime now) {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + timeBudget.toNanos();
+        long total = 0;
+        int chunks = 0;
+        boolean completed = false;
+
+        while (true) {
+            long chunkStart = System.nanoTime();
+            Integer deleted = transactionTemplate.execute(status -> deleteChunk(now));
+            int count = deleted == null ? 0 : deleted;
+            total += count;
+            chunks++;
+            log.debug("만료 리프레시 토큰 청크 삭제: {}건, {}ms", count, toMillis(System.nanoTime() - chunkStart));
+
+            // 청크가 꽉 차지 않았다면 더 지울 행이 없음
+            if (count < chunkSize) {
+                completed = true;
+                break;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                log.info("만료 리프레시 토큰 정리 시간 예산({})을 모두 사용해 다음 실행으로 넘깁니다.", timeBudget);
+                break;
+            }
+            if (!sleepBetweenChunks()) {
+                break;
+            }
+        }
+
+        PurgeResult result = new PurgeResult(total, chunks, toMillis(System.nanoTime() - startNanos), completed);
+        log.info("만료 리프레시 토큰 정리: 총 {}건, 청크 {}개, {}ms", result.deleted(), result.chunks(), result.elapsedMillis());
+        return result;
+    }
+
+    private int deleteChunk(LocalDateTime now) {
+        List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        refreshTokenRepository.deleteAllByIdInBatch(ids); // delete ... where id in (...) 한 번
+        return ids.size();
+    }
+
+    // 청크 사이 대기 (다른 트랜잭션이 락을 얻을 틈을 준다). 인터럽트되면 중단
+    private boolean sleepBetweenChunks() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+
+    // 1회 정리 결과
+    public record PurgeResult(long deleted, int chunks, long elapsedMillis, boolean completed) {
+    }
+}
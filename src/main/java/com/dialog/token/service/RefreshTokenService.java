@@ -1,8 +1,10 @@
 package com.dialog.token.service;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.RefreshTokenRotation;
 import com.dialog.user.domain.MeetUser;
 
 public interface RefreshTokenService {
@@ -13,7 +15,18 @@ public interface RefreshTokenService {
 
     RefreshToken verifyTokenValidity(String token);
 
-    void revokeToken(String token);
+    // 폐기된 행 수 반환 (없거나 이미 폐기된 토큰이면 0)
+    int revokeToken(String token);
+
+    // 사용자의 모든 토큰 폐기 (모든 기기 로그아웃), 폐기된 행 수 반환
+    int revokeAllByUser(Long userId);
+
+    // issuedBefore 이전에 발급된 모든 토큰 폐기, 폐기된 행 수 반환
+    int revokeAllIssuedBefore(LocalDateTime issuedBefore);
 
     void deleteExpiredTokens();
+
+    // 제출된 토큰을 원자적으로 폐기하고 같은 패밀리의 후속 토큰 발급 (이미 회전된 토큰이면 패밀리 전체 폐기)
+    // 새 토큰 평문과 소유자 요약 반환 (사용자 엔티티를 읽지 않음)
+    RefreshTokenRotation rotate(String oldToken);
 }
\ No newline at end of file
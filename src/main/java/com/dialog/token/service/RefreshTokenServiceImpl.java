@@ -7,9 +7,23 @@ import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dialog.audit.domain.AuditEventType;
+import com.dialog.audit.service.AuditEventPublisher;
+import com.dialog.datasource.ReplicaReadGuard;
+import com.dialog.exception.RefreshTokenExpiredException;
+import com.dialog.exception.RefreshTokenMissingException;
+import com.dialog.exception.RefreshTokenReusedException;
+import com.dialog.exception.RefreshTokenRevokedException;
+import com.dialog.security.jwt.TokenEpochCache;
 import com.dialog.token.domain.RefreshToken;
-import com.dialog.token.repository.RefreshTokenRepository;
+import com.dialog.token.domain.RefreshTokenRotation;
+import com.dialog.token.domain.RefreshTokenSnapshot;
+import com.dialog.token.domain.RefreshTokenUserView;
+import com.dialog.token.domain.RevokedRefreshToken;
+import com.dialog.token.domain.TokenDigest;
+import com.dialog.token.store.RefreshTokenStore;
 import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,17 +34,47 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RefreshTokenServiceImpl implements RefreshTokenService {
 
-    // JPA 리파지토리를 통해 DB의 refresh_token 테이블에 접근
-    private final RefreshTokenRepository refreshTokenRepository;
+    // 복제 지연 보호 범위 이름 (패밀리/사용자 단위 일괄 폐기 후 토큰 조회 전체를 primary 로)
+    private static final String TOKEN_SCOPE = "refresh_token";
+
+    // 토큰 저장소 (dialog.token.store.type: jpa=refresh_token 테이블, mmap=로컬 메모리 맵 파일)
+    private final RefreshTokenStore refreshTokenStore;
+
+    // 토큰 다이제스트 기준 검증 캐시 (폐기/삭제 시 동기 무효화)
+    private final RefreshTokenCache refreshTokenCache;
+
+    // 회전 시 후속 토큰의 소유자 참조(프록시) 획득, 모든 기기 로그아웃 시 토큰 에포크 증가용
+    private final MeetUserRepository meetUserRepository;
+
+    // 사용자 토큰 에포크 캐시 (에포크 증가 시 무효화)
+    private final TokenEpochCache tokenEpochCache;
+
+    // 만료 시각 버킷 인덱스 (jpa 저장소일 때만 존재, 발급 시 등록)
+    private final Optional<RefreshTokenExpiryWheel> refreshTokenExpiryWheel;
+
+    // 방금 발급/폐기한 토큰은 복제 지연 동안 primary 에서 조회 (replica 미사용 시 아무 일도 안 함)
+    private final ReplicaReadGuard replicaReadGuard;
+
+    // 발급/회전/폐기 감사 이벤트 (링 버퍼에 넣기만 하고 기록은 백그라운드)
+    private final AuditEventPublisher auditEventPublisher;
     
     // 리프레시 토큰 기본 유효기간: 7일 (밀리초 단위, 사용 시 LocalDateTime 등으로 변환됨)
     private final long refreshTokenDurationMs = 7 * 24 * 60 * 60 * 1000L; // 7일
 
-    // 1. 리프레시 토큰 생성: 사용자 객체를 받아서 랜덤 UUID 토큰 생성 후 DB에 저장
+    // 1. 리프레시 토큰 생성: 사용자 객체를 받아서 랜덤 UUID 토큰 생성 후 DB에 저장 (새 토큰 패밀리 시작)
     @Override
     public RefreshToken createRefreshToken(MeetUser user) {
+        String familyId = UUID.randomUUID().toString();
+        RefreshToken issued = issue(user, familyId);
+        auditEventPublisher.publish(AuditEventType.TOKEN_ISSUED, user.getId(), null, "family=" + familyId);
+        return issued;
+    }
+
+    // 지정한 패밀리로 토큰 발급 (최초 발급/회전 공용)
+    private RefreshToken issue(MeetUser user, String familyId) {
         // 리프레시 토큰 문자열 생성(UUID: 충돌 가능성 극히 낮은 랜덤 ID)
         String token = UUID.randomUUID().toString();
+        TokenDigest digest = TokenDigest.of(token);
 
         // 현재 시각 발급 시각
         LocalDateTime issuedAt = LocalDateTime.now();
@@ -39,59 +83,186 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
         // 엔티티 빌더를 사용해 리프레시 토큰 객체 생성
         RefreshToken refreshToken = RefreshToken.builder()
-                .refreshToken(token)        // 실제 토큰 문자열 세팅
+                .tokenHash(digest.bytes()) // DB에는 SHA-256 다이제스트만 저장
+                .refreshToken(token)        // 평문 토큰은 응답용으로만 보관 (@Transient)
                 .issuedAt(issuedAt)          // 발급 시각 세팅
                 .expiresAt(expiresAt)        // 만료 시각 세팅
                 .revoked(false)              // 초기 상태는 폐기 상태 아님
+                .familyId(familyId)          // 토큰 패밀리 (회전 시 승계)
                 .user(user)                  // 토큰 소유자 연결
                 .build();
 
-        // DB에 저장 후 저장된 엔티티 반환
-        return refreshTokenRepository.save(refreshToken);
+        // 저장소에 저장 후 만료 인덱스에 등록하고 저장된 엔티티 반환
+        RefreshToken saved = refreshTokenStore.save(refreshToken);
+        refreshTokenExpiryWheel.ifPresent(wheel -> wheel.track(saved.getId(), saved.getExpiresAt()));
+        replicaReadGuard.markWritten(digest);
+        return saved;
     }
 
-    // 2. 토큰 문자열로 DB에서 리프레시 토큰 조회
+    // 2. 토큰 문자열을 다이제스트로 변환해 조회
+    //    - 캐시에 없을 때만 저장소 전체 행 조회 (replica, 최근 쓴 토큰이거나 replica 에 없으면 primary)
+    //    - 적중 시 폐기 여부는 캐시 값을 쓰고, revocation-check-interval 이 지난 항목만 폐기 여부 한 컬럼을 다시 읽는다
+    //      (다른 노드의 폐기 반영, 이 노드의 폐기는 캐시 무효화로 즉시 반영)
     @Override
     public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByRefreshToken(token);
+        if (token == null) {
+            return Optional.empty();
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        RefreshTokenSnapshot snapshot = refreshTokenCache.get(digest,
+                key -> replicaReadGuard.readConfirmingMiss(TOKEN_SCOPE, key, () -> refreshTokenStore.findByDigest(key))
+                        .map(refreshToken -> RefreshTokenSnapshot.of(refreshToken, System.nanoTime()))
+                        .orElse(null));
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        if (refreshTokenCache.needsRevocationCheck(snapshot)) {
+            Optional<Boolean> revoked = replicaReadGuard.read(TOKEN_SCOPE, digest,
+                    () -> refreshTokenStore.findRevokedByDigest(digest));
+            if (revoked.isEmpty()) {
+                refreshTokenCache.invalidate(digest); // 그 사이 삭제된 토큰
+                return Optional.empty();
+            }
+            RefreshTokenSnapshot rechecked = snapshot.rechecked(revoked.get(), System.nanoTime());
+            refreshTokenCache.replace(digest, snapshot, rechecked);
+            snapshot = rechecked;
+        }
+        return Optional.of(snapshot.toRefreshToken(digest));
     }
 
     // 3. 토큰 유효성 검증: 존재 여부, 폐기 상태, 만료 여부 확인
+    //    실패 시 스택 트레이스 없는 상수 예외(AuthException)를 던져 401 로 응답
     @Override
     public RefreshToken verifyTokenValidity(String token) {
-        // DB에서 토큰 조회, 없으면 예외 발생
+        // 저장소(캐시)에서 토큰 조회, 없으면 예외 발생
         RefreshToken refreshToken = findByToken(token)
-                .orElseThrow(() -> new RuntimeException("리프레시 토큰이 존재하지 않습니다."));
+                .orElseThrow(() -> RefreshTokenMissingException.INSTANCE);
 
         // 폐기된 토큰인지 체크 후 예외 발생
         if (refreshToken.isRevoked()) {
-            throw new RuntimeException("리프레시 토큰이 폐기되었습니다.");
+            throw RefreshTokenRevokedException.INSTANCE;
         }
 
         // 만료된 토큰인지 체크 후 예외 발생
         if (refreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new RuntimeException("리프레시 토큰이 만료되었습니다.");
+            throw RefreshTokenExpiredException.INSTANCE;
         }
 
         // 모든 검사 통과하면 해당 토큰 리턴
         return refreshToken;
     }
 
-    // 4. 토큰 폐기 처리: 토큰을 찾아 revoked=true 로 표시하고 DB 업데이트
+    // 4. 토큰 폐기 처리: 조건부 UPDATE 한 번으로 revoked=true 표시 후 캐시 무효화
     @Override
-    public void revokeToken(String token) {
-        findByToken(token).ifPresent(rt -> {
-            rt.setRevoked(true);                // 폐기 상태로 상태 변경
-            refreshTokenRepository.save(rt);   // 저장소에 변경 상태 반영
+    @Transactional
+    public int revokeToken(String token) {
+        if (token == null) {
+            return 0;
+        }
+        TokenDigest digest = TokenDigest.of(token);
+        Optional<RevokedRefreshToken> revoked = refreshTokenStore.revoke(digest);
+        refreshTokenCache.invalidate(digest);  // 폐기된 토큰이 캐시로 통과되지 않도록 즉시 제거
+        replicaReadGuard.markWritten(digest);
+        revoked.ifPresent(target -> {
             log.info("리프레시 토큰이 폐기되었습니다.");
+            auditEventPublisher.publish(AuditEventType.TOKEN_REVOKED, target.userId(), null,
+                    "logout family=" + target.familyId());
         });
+        return revoked.isPresent() ? 1 : 0;
     }
 
-    // 5. 만료된 토큰 정리: 현재 시각 이전에 만료된 모든 토큰을 DB에서 삭제
+    // 4-1. 사용자의 모든 토큰 폐기 (모든 기기 로그아웃): 기기 수와 관계없이 UPDATE 한 번
+    //      토큰 에포크도 올려 이미 발급된 액세스 토큰(JWT)까지 무효화
     @Override
     @Transactional
+    public int revokeAllByUser(Long userId) {
+        int revoked = refreshTokenStore.revokeAllByUser(userId);
+        meetUserRepository.incrementTokenVersion(userId);
+        tokenEpochCache.invalidate(userId);
+        refreshTokenCache.invalidateIf(rt -> userId.equals(rt.userId()));
+        replicaReadGuard.markScopeWritten(TOKEN_SCOPE);
+        auditEventPublisher.publish(AuditEventType.TOKEN_REVOKED, userId, null, "all-by-user count=" + revoked);
+        log.info("사용자 {}의 리프레시 토큰 {}건이 폐기되었습니다.", userId, revoked);
+        return revoked;
+    }
+
+    // 4-2. 특정 시각 이전에 발급된 모든 토큰 폐기
+    @Override
+    @Transactional
+    public int revokeAllIssuedBefore(LocalDateTime issuedBefore) {
+        int revoked = refreshTokenStore.revokeAllIssuedBefore(issuedBefore);
+        refreshTokenCache.invalidateIf(rt -> rt.issuedAt().isBefore(issuedBefore));
+        replicaReadGuard.markScopeWritten(TOKEN_SCOPE);
+        auditEventPublisher.publish(AuditEventType.TOKEN_REVOKED, null, null,
+                "issued-before=" + issuedBefore + " count=" + revoked);
+        log.info("{} 이전에 발급된 리프레시 토큰 {}건이 폐기되었습니다.", issuedBefore, revoked);
+        return revoked;
+    }
+
+    // 5. 만료된 토큰 정리: 현재 시각 이전에 만료된 토큰 삭제 (jpa: 청크 단위 DELETE, mmap: 파일 압축)
+    //    캐시 항목 수명은 expiresAt 을 넘지 않으므로 삭제 대상은 이미 캐시에서 만료된 상태 -> 전체 무효화 불필요
+    @Override
     public void deleteExpiredTokens() {
-        refreshTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
-        log.info("만료된 리프레시 토큰 정리 완료");
+        refreshTokenStore.purgeExpired(LocalDateTime.now());
+        refreshTokenCache.cleanUp();
+    }
+
+    // 6. 토큰 회전: 조건부 UPDATE(폐기 안 됨 AND 만료 전) 로 기존 토큰을 폐기하고 같은 패밀리의 후속 토큰 발급
+    //    동시에 같은 토큰으로 회전을 시도하면 한 요청만 UPDATE 1건을 얻고, 나머지는 재사용으로 간주한다
+    //    재사용 감지 시 패밀리 폐기는 예외가 나도 커밋되어야 하므로 롤백 대상에서 제외
+    @Override
+    @Transactional(noRollbackFor = RefreshTokenReusedException.class)
+    public RefreshTokenRotation rotate(String oldToken) {
+        if (oldToken == null) {
+            throw RefreshTokenMissingException.INSTANCE;
+        }
+        TokenDigest digest = TokenDigest.of(oldToken);
+        // 최신 상태가 필요하므로 캐시를 거치지 않고 저장소에서 조회 (토큰 상태 + 소유자 요약을 한 번에)
+        RefreshTokenUserView current = refreshTokenStore.findUserViewByDigest(digest)
+                .orElseThrow(() -> RefreshTokenMissingException.INSTANCE);
+        Long userId = current.userId();
+        String familyId = current.familyId();
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = refreshTokenStore.revokeIfActive(digest, now);
+        refreshTokenCache.invalidate(digest);
+        replicaReadGuard.markWritten(digest);
+
+        if (updated == 0) {
+            // 만료가 아닌데 CAS 에 실패했다면 이미 회전(폐기)된 토큰이 다시 제출된 것
+            if (current.expiresAt().isAfter(now)) {
+                revokeFamily(familyId, digest);
+                auditEventPublisher.publish(AuditEventType.TOKEN_REUSE_DETECTED, userId, null, "family=" + familyId);
+                log.warn("리프레시 토큰 재사용이 감지되어 사용자 {}의 토큰 패밀리를 폐기했습니다.", userId);
+                throw RefreshTokenReusedException.INSTANCE;
+            }
+            throw RefreshTokenExpiredException.INSTANCE;
+        }
+
+        // 패밀리가 없는 기존 토큰은 회전 시점부터 새 패밀리 시작
+        // 후속 토큰의 소유자는 FK 값만 필요하므로 프록시 참조 (SELECT 없음)
+        String successorFamily = familyId != null ? familyId : UUID.randomUUID().toString();
+        RefreshToken successor;
+        try {
+            successor = issue(meetUserRepository.getReferenceById(userId), successorFamily);
+        } catch (RuntimeException e) {
+            // 트랜잭션에 참여하지 않는 저장소(mmap)는 폐기가 이미 반영됐으므로 되돌려 재시도할 수 있게 한다 (jpa 는 롤백)
+            refreshTokenStore.undoRevoke(digest);
+            refreshTokenCache.invalidate(digest); // 그 사이 적재된 폐기 상태를 비움
+            throw e;
+        }
+        // 회전은 후속 토큰 저장 후 이벤트 한 건 (커밋 후 기록)
+        auditEventPublisher.publish(AuditEventType.TOKEN_ROTATED, userId, null, "family=" + successorFamily);
+        return new RefreshTokenRotation(successor.getRefreshToken(), current.user());
+    }
+
+    private void revokeFamily(String familyId, TokenDigest digest) {
+        if (familyId == null) {
+            refreshTokenStore.revoke(digest);
+            return;
+        }
+        refreshTokenStore.revokeFamily(familyId);
+        refreshTokenCache.invalidateIf(rt -> familyId.equals(rt.familyId()));
+        replicaReadGuard.markScopeWritten(TOKEN_SCOPE);
     }
-}
\ No newline at end of file
+}
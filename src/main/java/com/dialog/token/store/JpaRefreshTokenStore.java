@@ -0,0 +1,98 @@
+package com.dialog.token.store;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.RefreshTokenCounts;
+import com.dialog.token.domain.RefreshTokenUserView;
+import com.dialog.token.domain.RevokedRefreshToken;
+import com.dialog.token.domain.TokenDigest;
+import com.dialog.token.repository.RefreshTokenRepository;
+import com.dialog.token.service.RefreshTokenPurger;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * refresh_token 테이블 저장소 (기본 구현)
+ * - 폐기 연산은 조건부 UPDATE 한 번씩이며 호출 측 트랜잭션 안에서 실행되어야 한다
+ * - 만료 토큰 삭제는 RefreshTokenPurger 의 청크 단위 DELETE 에 위임
+ * - 건수 집계는 (revoked, expires_at) 인덱스 범위 COUNT 두 번 (테이블 전체를 읽지 않음, 게이지 주기마다 한 번)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dialog.token.store.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenPurger refreshTokenPurger;
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        return refreshTokenRepository.save(refreshToken);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByDigest(TokenDigest digest) {
+        return refreshTokenRepository.findByTokenHash(digest.bytes());
+    }
+
+    @Override
+    public Optional<RefreshTokenUserView> findUserViewByDigest(TokenDigest digest) {
+        return refreshTokenRepository.findUserViewByTokenHash(digest.bytes());
+    }
+
+    @Override
+    public Optional<Boolean> findRevokedByDigest(TokenDigest digest) {
+        return refreshTokenRepository.findRevokedByTokenHash(digest.bytes());
+    }
+
+    // 소유자/패밀리 조회 후 조건부 UPDATE (폐기 여부는 UPDATE 결과로만 판단)
+    @Override
+    public Optional<RevokedRefreshToken> revoke(TokenDigest digest) {
+        Optional<RevokedRefreshToken> target = refreshTokenRepository.findRevocationTargetByTokenHash(digest.bytes());
+        if (target.isEmpty() || refreshTokenRepository.revokeByTokenHash(digest.bytes()) == 0) {
+            return Optional.empty();
+        }
+        return target;
+    }
+
+    @Override
+    public int revokeIfActive(TokenDigest digest, LocalDateTime now) {
+        return refreshTokenRepository.revokeIfActive(digest.bytes(), now);
+    }
+
+    // 회전은 한 트랜잭션이라 후속 발급이 실패하면 조건부 UPDATE 도 함께 롤백된다
+    @Override
+    public void undoRevoke(TokenDigest digest) {
+    }
+
+    @Override
+    public int revokeFamily(String familyId) {
+        return refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    @Override
+    public int revokeAllByUser(Long userId) {
+        return refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    @Override
+    public int revokeAllIssuedBefore(LocalDateTime issuedBefore) {
+        return refreshTokenRepository.revokeAllIssuedBefore(issuedBefore);
+    }
+
+    @Override
+    public long purgeExpired(LocalDateTime now) {
+        return refreshTokenPurger.purgeExpired(now).deleted();
+    }
+
+    @Override
+    public RefreshTokenCounts countLive(LocalDateTime now) {
+        return new RefreshTokenCounts(refreshTokenRepository.countActiveExpiringAfter(now),
+                refreshTokenRepository.countRevokedExpiringAfter(now));
+    }
+}
@@ -0,0 +1,560 @@
+package com.dialog.token.store;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.RefreshTokenCounts;
+import com.dialog.token.domain.RefreshTokenUserView;
+import com.dialog.token.domain.RevokedRefreshToken;
+import com.dialog.token.domain.TokenDigest;
+import com.dialog.user.repository.MeetUserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 맵 파일 기반 로컬 리프레시 토큰 저장소 (단일 노드 배포용, dialog.token.store.type=mmap)
+ * - 고정 크기 레코드를 파일 끝에 덧붙이고(append), 폐기는 레코드의 플래그 바이트만 제자리에서 바꾼다
+ * - 다이제스트 -> 레코드 번호 해시 인덱스는 힙 밖(direct buffer)의 open addressing 테이블이며 기동 시 파일을 훑어 재구성한다
+ * - 조회는 인덱스 탐색과 매핑된 버퍼 비교라 DB 왕복이 없다. 탐색/비교 자체는 힙 할당이 없지만, 찾은 레코드로
+ *   결과 객체(RefreshToken, LocalDateTime, 패밀리 UUID 문자열, 사용자 프록시)를 만드는 데 조회당 몇 개씩 할당된다
+ * - 트랜잭션에 참여하지 않는다: 폐기/추가는 호출 즉시 반영되고 롤백되지 않으므로, 회전처럼 여러 연산을 묶는 쪽은
+ *   실패 시 undoRevoke 로 직접 보상해야 한다
+ * - 만료 토큰 삭제(purgeExpired)는 살아 있는 레코드만 다음 세대 파일로 옮기는 압축(compaction)이다.
+ *   매핑 중인 파일은 덮어쓰지 않고(매핑 해제 시점은 GC 가 정하므로 Windows 에서는 교체/삭제가 실패한다)
+ *   현재 세대를 가리키는 작은 포인터 파일(refresh-tokens.current)만 원자적으로 교체한다
+ * - 만료 판정은 어디서나 expiresAt <= now (조회/회전/집계/압축 동일)
+ * - 읽기는 읽기 락, 추가/폐기/압축은 쓰기 락 (ReentrantReadWriteLock)
+ * - 쓰기는 OS 페이지 캐시에 반영되어 프로세스 재시작에도 남는다. 전원 장애까지 견디려면 force-writes=true
+ *
+ * 파일 레이아웃: 헤더 16바이트 [magic(4) version(4) 레코드 수(8)] + 레코드 80바이트 * capacity
+ * 파일 이름: 0세대 refresh-tokens.dat (포인터 파일이 없을 때), N세대 refresh-tokens.N.dat
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "dialog.token.store.type", havingValue = "mmap")
+public class MappedRefreshTokenStore implements RefreshTokenStore, DisposableBean {
+
+    private static final String FILE_PREFIX = "refresh-tokens";
+    private static final int MAGIC = 0x44524654; // "DRFT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int COUNT_OFFSET = 8;
+
+    // 레코드 레이아웃 (바이트 오프셋)
+    private static final int RECORD_SIZE = 80;
+    private static final int DIGEST = 0;        // SHA-256 32바이트
+    private static final int USER_ID = 32;      // long
+    private static final int ISSUED_AT = 40;    // epoch millis
+    private static final int EXPIRES_AT = 48;   // epoch millis
+    private static final int FAMILY_MSB = 56;   // 패밀리 UUID 상위 64비트 (패밀리 없으면 0, 0)
+    private static final int FAMILY_LSB = 64;   // 패밀리 UUID 하위 64비트
+    private static final int FLAGS = 72;        // 1바이트 (나머지는 패딩)
+
+    private static final byte FLAG_COMMITTED = 1; // 레코드를 끝까지 쓴 뒤에 켠다 (쓰다 중단된 레코드는 기동 시 무시)
+    private static final byte FLAG_REVOKED = 2;
+    private static final byte FLAG_ROTATED = 4;   // revokeIfActive(회전)로 폐기됨, 다른 경로로도 폐기되면 지운다 (undoRevoke 대상 표시)
+
+    // byte[] 다이제스트를 long 4개로 읽기 (비교 시 할당 없음)
+    private static final VarHandle DIGEST_LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final MeetUserRepository meetUserRepository;
+    private final Path directory;
+    private final Path pointerFile;
+    private final int capacity;
+    private final boolean forceWrites;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private long generation;
+    private Path dataFile;
+    private FileChannel channel;
+    private MappedByteBuffer data;
+    private ByteBuffer index;   // int 슬롯 = 레코드 번호 + 1 (0 은 빈 칸)
+    private int indexMask;
+    private int count;
+
+    public MappedRefreshTokenStore(MeetUserRepository meetUserRepository,
+                                   @Value("${dialog.token.store.mmap.dir:./data/refresh-tokens}") String dir,
+                                   @Value("${dialog.token.store.mmap.capacity:1048576}") int capacity,
+                                   @Value("${dialog.token.store.mmap.force-writes:false}") boolean forceWrites) {
+        if (capacity <= 0 || capacity > (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE) {
+            throw new IllegalArgumentException("dialog.token.store.mmap.capacity 범위를 벗어났습니다: " + capacity);
+        }
+        this.meetUserRepository = meetUserRepository;
+        this.directory = Paths.get(dir);
+        this.pointerFile = directory.resolve(FILE_PREFIX + ".current");
+        this.capacity = capacity;
+        this.forceWrites = forceWrites;
+
+        int slots = Integer.highestOneBit(capacity * 2 - 1) << 1; // 적재율 50% 이하가 되는 2의 거듭제곱
+        this.index = ByteBuffer.allocateDirect(slots * Integer.BYTES);
+        this.indexMask = slots - 1;
+
+        try {
+            Files.createDirectories(directory);
+            generation = readGeneration();
+            open(generationFile(generation));
+        } catch (IOException e) {
+            throw new IllegalStateException("리프레시 토큰 저장 파일을 열 수 없습니다: " + directory, e);
+        }
+        deleteStaleGenerations(); // 이전 실행에서 지우지 못한 세대 파일 정리
+        log.info("메모리 맵 리프레시 토큰 저장소: {} (레코드 {}/{})", dataFile, count, capacity);
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        lock.writeLock().lock();
+        try {
+            if (count == capacity) {
+                compact(System.currentTimeMillis());
+                if (count == capacity) {
+                    throw new IllegalStateException("리프레시 토큰 저장 공간이 가득 찼습니다 (capacity=" + capacity + ")");
+                }
+            }
+            int record = count;
+            int offset = offset(record);
+            data.put(offset + DIGEST, refreshToken.getTokenHash());
+            data.putLong(offset + USER_ID, refreshToken.getUser().getId());
+            data.putLong(offset + ISSUED_AT, toMillis(refreshToken.getIssuedAt()));
+            data.putLong(offset + EXPIRES_AT, toMillis(refreshToken.getExpiresAt()));
+            UUID family = refreshToken.getFamilyId() == null ? null : UUID.fromString(refreshToken.getFamilyId());
+            data.putLong(offset + FAMILY_MSB, family == null ? 0L : family.getMostSignificantBits());
+            data.putLong(offset + FAMILY_LSB, family == null ? 0L : family.getLeastSignificantBits());
+            data.put(offset + FLAGS, (byte) (FLAG_COMMITTED | (refreshToken.isRevoked() ? FLAG_REVOKED : 0)));
+            data.putLong(COUNT_OFFSET, record + 1L);
+            if (forceWrites) {
+                data.force(offset, RECORD_SIZE);
+                data.force(COUNT_OFFSET, Long.BYTES);
+            }
+            count = record + 1;
+            indexInsert(record);
+
+            refreshToken.setId((long) record); // 저장소 안의 레코드 번호 (압축 시 바뀜)
+            return refreshToken;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<RefreshToken> findByDigest(TokenDigest digest) {
+        lock.readLock().lock();
+        try {
+            int record = lookup(digest.bytes());
+            if (record < 0) {
+                return Optional.empty();
+            }
+            int offset = offset(record);
+            long msb = data.getLong(offset + FAMILY_MSB);
+            long lsb = data.getLong(offset + FAMILY_LSB);
+            return Optional.of(RefreshToken.builder()
+                    .id((long) record)
+                    .tokenHash(digest.bytes())
+                    .issuedAt(toDateTime(data.getLong(offset + ISSUED_AT)))
+                    .expiresAt(toDateTime(data.getLong(offset + EXPIRES_AT)))
+                    .revoked((data.get(offset + FLAGS) & FLAG_REVOKED) != 0)
+                    .familyId(msb == 0L && lsb == 0L ? null : new UUID(msb, lsb).toString())
+                    .user(meetUserRepository.getReferenceById(data.getLong(offset + USER_ID))) // 지연 로딩 프록시
+                    .build());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 토큰 상태는 파일에서, 소유자 요약은 요약 프로젝션 쿼리 한 번으로 (사용자는 DB 에만 있음)
+    @Override
+    public Optional<RefreshTokenUserView> findUserViewByDigest(TokenDigest digest) {
+        boolean revoked;
+        LocalDateTime expiresAt;
+        String familyId;
+        long userId;
+        lock.readLock().lock();
+        try {
+            int record = lookup(digest.bytes());
+            if (record < 0) {
+                return Optional.empty();
+            }
+            int offset = offset(record);
+            long msb = data.getLong(offset + FAMILY_MSB);
+            long lsb = data.getLong(offset + FAMILY_LSB);
+            revoked = (data.get(offset + FLAGS) & FLAG_REVOKED) != 0;
+            expiresAt = toDateTime(data.getLong(offset + EXPIRES_AT));
+            familyId = msb == 0L && lsb == 0L ? null : new UUID(msb, lsb).toString();
+            userId = data.getLong(offset + USER_ID);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return meetUserRepository.findSummaryById(userId)
+                .map(user -> new RefreshTokenUserView(revoked, expiresAt, familyId, user.id(), user.email(), user.name(),
+                        user.role()));
+    }
+
+    @Override
+    public Optional<Boolean> findRevokedByDigest(TokenDigest digest) {
+        lock.readLock().lock();
+        try {
+            int record = lookup(digest.bytes());
+            return record < 0 ? Optional.empty() : Optional.of((data.get(offset(record) + FLAGS) & FLAG_REVOKED) != 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<RevokedRefreshToken> revoke(TokenDigest digest) {
+        lock.writeLock().lock();
+        try {
+            int record = lookup(digest.bytes());
+            if (record < 0 || !markRevoked(record)) {
+                return Optional.empty();
+            }
+            int offset = offset(record);
+            long msb = data.getLong(offset + FAMILY_MSB);
+            long lsb = data.getLong(offset + FAMILY_LSB);
+            return Optional.of(new RevokedRefreshToken(data.getLong(offset + USER_ID),
+                    msb == 0L && lsb == 0L ? null : new UUID(msb, lsb).toString()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int revokeIfActive(TokenDigest digest, LocalDateTime now) {
+        long nowMillis = toMillis(now);
+        lock.writeLock().lock();
+        try {
+            int record = lookup(digest.bytes());
+            if (record < 0 || data.getLong(offset(record) + EXPIRES_AT) <= nowMillis) {
+                return 0;
+            }
+            return markRevoked(record, FLAG_ROTATED) ? 1 : 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 회전 폐기만 되돌림: 그 뒤에 로그아웃/패밀리 폐기 등으로 다시 폐기됐다면 FLAG_ROTATED 가 지워져 있어 그대로 둔다
+    @Override
+    public void undoRevoke(TokenDigest digest) {
+        lock.writeLock().lock();
+        try {
+            int record = lookup(digest.bytes());
+            if (record < 0) {
+                return;
+            }
+            int flagOffset = offset(record) + FLAGS;
+            byte flags = data.get(flagOffset);
+            if ((flags & FLAG_ROTATED) != 0) {
+                writeFlags(flagOffset, (byte) (flags & ~(FLAG_REVOKED | FLAG_ROTATED)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 패밀리/사용자/발급 시각 기준 폐기는 보조 인덱스 없이 전체 레코드를 훑는다 (드문 일괄 연산)
+    @Override
+    public int revokeFamily(String familyId) {
+        UUID family = UUID.fromString(familyId);
+        long msb = family.getMostSignificantBits();
+        long lsb = family.getLeastSignificantBits();
+        return revokeWhere(offset -> data.getLong(offset + FAMILY_MSB) == msb
+                && data.getLong(offset + FAMILY_LSB) == lsb);
+    }
+
+    @Override
+    public int revokeAllByUser(Long userId) {
+        long id = userId;
+        return revokeWhere(offset -> data.getLong(offset + USER_ID) == id);
+    }
+
+    @Override
+    public int revokeAllIssuedBefore(LocalDateTime issuedBefore) {
+        long before = toMillis(issuedBefore);
+        return revokeWhere(offset -> data.getLong(offset + ISSUED_AT) < before);
+    }
+
+    @Override
+    public long purgeExpired(LocalDateTime now) {
+        lock.writeLock().lock();
+        try {
+            return compact(toMillis(now));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 메모리에 매핑된 레코드를 순회해 집계 (I/O 없음)
+    @Override
+    public RefreshTokenCounts countLive(LocalDateTime now) {
+        long nowMillis = toMillis(now);
+        long active = 0;
+        long revoked = 0;
+        lock.readLock().lock();
+        try {
+            for (int record = 0; record < count; record++) {
+                int offset = offset(record);
+                byte flags = data.get(offset + FLAGS);
+                if ((flags & FLAG_COMMITTED) == 0 || data.getLong(offset + EXPIRES_AT) <= nowMillis) {
+                    continue;
+                }
+                if ((flags & FLAG_REVOKED) != 0) {
+                    revoked++;
+                } else {
+                    active++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new RefreshTokenCounts(active, revoked);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        lock.writeLock().lock();
+        try {
+            data.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---- 파일/인덱스 관리 (쓰기 락 또는 생성자 안에서만 호출) ----
+
+    // 파일을 열고 매핑한 뒤 인덱스 재구성
+    private void open(Path file) throws IOException {
+        dataFile = file;
+        channel = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        boolean fresh = channel.size() == 0;
+        data = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        if (fresh) {
+            data.putInt(0, MAGIC);
+            data.putInt(4, VERSION);
+            data.putLong(COUNT_OFFSET, 0L);
+            data.force();
+        } else if (data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+            throw new IllegalStateException("리프레시 토큰 저장 파일 형식이 올바르지 않습니다: " + dataFile);
+        }
+        long stored = data.getLong(COUNT_OFFSET);
+        if (stored > capacity) {
+            throw new IllegalStateException("저장된 레코드 수(" + stored + ")가 capacity(" + capacity + ")보다 큽니다.");
+        }
+        count = (int) stored;
+        rebuildIndex();
+    }
+
+    private void rebuildIndex() {
+        for (int slot = 0; slot <= indexMask; slot++) {
+            index.putInt(slot * Integer.BYTES, 0);
+        }
+        for (int record = 0; record < count; record++) {
+            if ((data.get(offset(record) + FLAGS) & FLAG_COMMITTED) != 0) {
+                indexInsert(record);
+            }
+        }
+    }
+
+    // 만료되지 않은 레코드만 다음 세대 파일로 복사 -> force -> 포인터 교체 -> 새 파일 매핑. 삭제 건수 반환
+    private long compact(long nowMillis) {
+        long startNanos = System.nanoTime();
+        long next = generation + 1;
+        Path compacted = generationFile(next);
+        int kept = 0;
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = target.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) capacity * RECORD_SIZE);
+            for (int record = 0; record < count; record++) {
+                int from = offset(record);
+                if ((data.get(from + FLAGS) & FLAG_COMMITTED) == 0 || data.getLong(from + EXPIRES_AT) <= nowMillis) {
+                    continue;
+                }
+                out.put(offset(kept), data, from, RECORD_SIZE);
+                kept++;
+            }
+            out.putInt(0, MAGIC);
+            out.putInt(4, VERSION);
+            out.putLong(COUNT_OFFSET, kept);
+            out.force();
+        } catch (IOException e) {
+            throw new IllegalStateException("리프레시 토큰 저장 파일 압축에 실패했습니다.", e);
+        }
+
+        long removed = count - kept;
+        try {
+            writeGeneration(next); // 이 시점부터 재시작해도 새 세대를 연다
+            channel.close();
+            data = null; // 이전 매핑은 참조만 끊는다 (실제 해제는 GC 시점)
+            generation = next;
+            open(compacted);
+        } catch (IOException e) {
+            throw new IllegalStateException("압축된 리프레시 토큰 저장 파일로 전환하지 못했습니다.", e);
+        }
+        deleteStaleGenerations();
+        log.info("리프레시 토큰 저장 파일 압축: 만료 {}건 삭제, {}건 유지, {}ms",
+                removed, kept, (System.nanoTime() - startNanos) / 1_000_000L);
+        return removed;
+    }
+
+    // ---- 세대 파일/포인터 ----
+
+    private Path generationFile(long gen) {
+        return directory.resolve(gen == 0 ? FILE_PREFIX + ".dat" : FILE_PREFIX + "." + gen + ".dat");
+    }
+
+    // 포인터 파일이 없으면 0세대 (압축을 한 번도 하지 않은 저장소)
+    private long readGeneration() throws IOException {
+        if (!Files.exists(pointerFile)) {
+            return 0L;
+        }
+        return Long.parseLong(Files.readString(pointerFile, StandardCharsets.US_ASCII).trim());
+    }
+
+    // 임시 파일에 쓰고 force 한 뒤 원자적 이름 변경 (포인터 파일은 매핑하지 않으므로 어느 OS 에서나 교체 가능)
+    private void writeGeneration(long gen) throws IOException {
+        Path tmp = pointerFile.resolveSibling(pointerFile.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.write(ByteBuffer.wrap(Long.toString(gen).getBytes(StandardCharsets.US_ASCII)));
+            out.force(true);
+        }
+        Files.move(tmp, pointerFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 현재 세대가 아닌 데이터 파일 삭제. 아직 매핑이 살아 있어 지우지 못한 파일은 다음 압축이나 재시작 때 다시 시도
+    private void deleteStaleGenerations() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*.dat")) {
+            for (Path file : files) {
+                if (!file.equals(dataFile)) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        log.debug("이전 세대 리프레시 토큰 파일을 아직 지울 수 없습니다: {}", file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이전 세대 리프레시 토큰 파일 정리 실패: {}", directory, e);
+        }
+    }
+
+    private int revokeWhere(IntPredicate condition) {
+        lock.writeLock().lock();
+        try {
+            int revoked = 0;
+            for (int record = 0; record < count; record++) {
+                int offset = offset(record);
+                if ((data.get(offset + FLAGS) & FLAG_COMMITTED) != 0 && condition.test(offset)
+                        && markRevoked(record)) {
+                    revoked++;
+                }
+            }
+            return revoked;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 폐기 플래그 설정, 이미 폐기되어 있었으면 false
+    private boolean markRevoked(int record) {
+        return markRevoked(record, (byte) 0);
+    }
+
+    // 회전 외의 폐기가 이미 회전으로 폐기된 레코드에 닿으면 FLAG_ROTATED 를 지워 undoRevoke 가 되살리지 못하게 한다
+    private boolean markRevoked(int record, byte extraFlags) {
+        int flagOffset = offset(record) + FLAGS;
+        byte flags = data.get(flagOffset);
+        if ((flags & FLAG_REVOKED) != 0) {
+            if (extraFlags == 0 && (flags & FLAG_ROTATED) != 0) {
+                writeFlags(flagOffset, (byte) (flags & ~FLAG_ROTATED));
+            }
+            return false;
+        }
+        writeFlags(flagOffset, (byte) (flags | FLAG_REVOKED | extraFlags));
+        return true;
+    }
+
+    private void writeFlags(int flagOffset, byte flags) {
+        data.put(flagOffset, flags);
+        if (forceWrites) {
+            data.force(flagOffset, 1);
+        }
+    }
+
+    // ---- 해시 인덱스 (선형 탐사) ----
+
+    private void indexInsert(int record) {
+        int slot = slotOf(data.getLong(offset(record) + DIGEST));
+        while (index.getInt(slot * Integer.BYTES) != 0) {
+            slot = (slot + 1) & indexMask;
+        }
+        index.putInt(slot * Integer.BYTES, record + 1);
+    }
+
+    // 다이제스트의 레코드 번호, 없으면 -1
+    private int lookup(byte[] digest) {
+        long d0 = (long) DIGEST_LONGS.get(digest, 0);
+        long d1 = (long) DIGEST_LONGS.get(digest, 8);
+        long d2 = (long) DIGEST_LONGS.get(digest, 16);
+        long d3 = (long) DIGEST_LONGS.get(digest, 24);
+        int slot = slotOf(d0);
+        while (true) {
+            int entry = index.getInt(slot * Integer.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            int offset = offset(entry - 1) + DIGEST;
+            if (data.getLong(offset) == d0 && data.getLong(offset + 8) == d1
+                    && data.getLong(offset + 16) == d2 && data.getLong(offset + 24) == d3) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & indexMask;
+        }
+    }
+
+    // SHA-256 은 이미 고르게 분포하므로 앞 8바이트를 접어서 바로 슬롯으로 사용
+    private int slotOf(long digestPrefix) {
+        return (int) (digestPrefix ^ (digestPrefix >>> 32)) & indexMask;
+    }
+
+    private static int offset(int record) {
+        return HEADER_SIZE + record * RECORD_SIZE;
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+    }
+}
@@ -0,0 +1,56 @@
+package com.dialog.token.store;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.RefreshTokenCounts;
+import com.dialog.token.domain.RefreshTokenUserView;
+import com.dialog.token.domain.RevokedRefreshToken;
+import com.dialog.token.domain.TokenDigest;
+
+/**
+ * 리프레시 토큰 저장소 SPI (RefreshTokenService 가 사용하는 저장 연산만 정의)
+ * - dialog.token.store.type 으로 구현 선택: jpa(기본, refresh_token 테이블) / mmap(로컬 메모리 맵 파일)
+ * - 폐기 연산은 모두 "이번 호출로 폐기 상태가 된 건수"를 반환한다 (이미 폐기된 토큰은 세지 않음)
+ *   단, 한 건 폐기(revoke)는 감사 기록을 위해 폐기된 토큰의 소유자/패밀리를 반환한다
+ */
+public interface RefreshTokenStore {
+
+    // 1. 새 토큰 저장 (tokenHash/issuedAt/expiresAt/familyId/user 가 채워진 객체)
+    RefreshToken save(RefreshToken refreshToken);
+
+    // 2. 다이제스트로 조회 (캐시를 거치지 않은 최신 상태)
+    Optional<RefreshToken> findByDigest(TokenDigest digest);
+
+    // 2-1. 토큰 상태 + 소유자 요약 조회 (회전 흐름용, 사용자 엔티티를 올리지 않음)
+    Optional<RefreshTokenUserView> findUserViewByDigest(TokenDigest digest);
+
+    // 2-2. 폐기 여부만 조회 (없으면 empty) - 검증 캐시 항목의 주기적 재확인용, 가장 싼 조회여야 한다
+    Optional<Boolean> findRevokedByDigest(TokenDigest digest);
+
+    // 3. 토큰 한 건 폐기: 이번 호출로 폐기됐으면 소유자/패밀리, 없거나 이미 폐기된 토큰이면 empty
+    Optional<RevokedRefreshToken> revoke(TokenDigest digest);
+
+    // 4. 회전용 compare-and-set: 폐기되지 않았고 now 기준 만료 전일 때만 폐기 (1 성공, 0 실패)
+    int revokeIfActive(TokenDigest digest, LocalDateTime now);
+
+    // 4-1. revokeIfActive 로 폐기한 토큰을 되돌림 (회전의 후속 토큰 발급이 실패했을 때의 보상)
+    //      트랜잭션 저장소는 롤백이 대신하므로 아무 일도 하지 않는다. 그 사이 다른 경로로 폐기된 토큰은 되살리지 않는다
+    void undoRevoke(TokenDigest digest);
+
+    // 5. 같은 패밀리의 모든 토큰 폐기 (재사용 감지 시)
+    int revokeFamily(String familyId);
+
+    // 6. 사용자의 모든 토큰 폐기 (모든 기기 로그아웃)
+    int revokeAllByUser(Long userId);
+
+    // 7. 특정 시각 이전에 발급된 모든 토큰 폐기
+    int revokeAllIssuedBefore(LocalDateTime issuedBefore);
+
+    // 8. now 이전에 만료된 토큰 삭제, 삭제 건수 반환
+    long purgeExpired(LocalDateTime now);
+
+    // 9. 만료 전 토큰의 사용 가능/폐기 건수 (게이지용, 테이블 전체를 읽지 않는 집계만 사용)
+    RefreshTokenCounts countLive(LocalDateTime now);
+}
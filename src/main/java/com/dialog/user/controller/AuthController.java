@@ -0,0 +1,76 @@
+package com.dialog.user.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dialog.security.jwt.JwtTokenProvider;
+import com.dialog.security.ratelimit.LoginRateLimiter;
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.RefreshTokenRequest;
+import com.dialog.token.domain.RefreshTokenRotation;
+import com.dialog.token.domain.TokenResponse;
+import com.dialog.token.service.RefreshTokenService;
+import com.dialog.user.domain.LoginDto;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.MeetUserDto;
+import com.dialog.user.service.MeetUserService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그인/토큰 재발급 API
+ * - 빈도 제한을 가장 먼저 확인해, 초과 요청은 비밀번호 해싱이나 토큰 조회 없이 429로 거절된다
+ */
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final LoginRateLimiter loginRateLimiter;
+    private final MeetUserService meetUserService;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    // 1. 이메일/비밀번호 로그인 -> 액세스 토큰 + 리프레시 토큰 발급
+    @PostMapping("/login")
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginDto loginDto, HttpServletRequest request) {
+        loginRateLimiter.checkLogin(loginDto.getEmail(), request.getRemoteAddr());
+
+        MeetUser user = meetUserService.login(loginDto);
+        RefreshToken refreshToken = refreshTokenService.createRefreshToken(user);
+        return ResponseEntity.ok(new TokenResponse(jwtTokenProvider.createAccessToken(user), refreshToken.getRefreshToken()));
+    }
+
+    // 2. 이메일 회원가입
+    @PostMapping("/signup")
+    public ResponseEntity<MeetUserDto> signup(@Valid @RequestBody MeetUserDto meetUserDto) {
+        return ResponseEntity.ok(MeetUserDto.fromEntity(meetUserService.signup(meetUserDto)));
+    }
+
+    // 3. 리프레시 토큰 회전 -> 새 액세스 토큰 + 새 리프레시 토큰 발급
+    //    회전 결과의 소유자 요약(id, email)으로 액세스 토큰을 만들어 사용자 행을 다시 읽지 않는다
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest refreshRequest,
+                                                 HttpServletRequest request) {
+        loginRateLimiter.checkRefresh(request.getRemoteAddr());
+
+        RefreshTokenRotation next = refreshTokenService.rotate(refreshRequest.getRefreshToken());
+        return ResponseEntity.ok(new TokenResponse(jwtTokenProvider.createAccessToken(next.user()), next.refreshToken()));
+    }
+
+    // 4. 로그아웃 -> 리프레시 토큰 폐기
+    //    없는/이미 폐기된 토큰도 204 (응답으로 토큰 존재 여부를 알려주지 않음)
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest refreshRequest,
+                                       HttpServletRequest request) {
+        loginRateLimiter.checkRefresh(request.getRemoteAddr());
+
+        refreshTokenService.revokeToken(refreshRequest.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+}
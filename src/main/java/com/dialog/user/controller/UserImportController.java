@@ -0,0 +1,63 @@
+package com.dialog.user.controller;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dialog.user.domain.UserImportEvent;
+import com.dialog.user.domain.UserImportFormat;
+import com.dialog.user.service.MeetUserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 일괄 가져오기 API (ADMIN 권한 필요, SecurityConfig)
+ * - 요청 본문(CSV 또는 NDJSON)을 스트리밍으로 읽고, 응답으로 행 오류/진행 상황을 NDJSON 으로 바로바로 내보낸다
+ * - 긴 가져오기도 비동기 요청 타임아웃에 걸리지 않도록 요청 스레드에서 직접 응답 스트림에 쓴다
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final MeetUserImportService meetUserImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/import", consumes = {"text/csv", NDJSON}, produces = NDJSON)
+    public void importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UserImportFormat format = UserImportFormat.fromContentType(contentType);
+
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+        meetUserImportService.importUsers(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8),
+                format, event -> write(out, event));
+    }
+
+    // 이벤트 한 줄 쓰기, 진행/완료 이벤트마다 클라이언트로 flush
+    private void write(OutputStream out, UserImportEvent event) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            if (!"error".equals(event.type())) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
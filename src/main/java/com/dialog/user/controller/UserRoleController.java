@@ -0,0 +1,32 @@
+package com.dialog.user.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dialog.user.domain.RoleChangeRequest;
+import com.dialog.user.service.MeetUserService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 권한 변경 API (ADMIN 권한 필요, SecurityConfig)
+ * - 권한이 바뀌면 대상 사용자의 액세스/리프레시 토큰이 모두 무효화되어 다시 로그인해야 한다
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserRoleController {
+
+    private final MeetUserService meetUserService;
+
+    @PutMapping("/{id}/role")
+    public ResponseEntity<Void> changeRole(@PathVariable Long id, @Valid @RequestBody RoleChangeRequest request) {
+        meetUserService.changeRole(id, request.getRole());
+        return ResponseEntity.noContent().build();
+    }
+}
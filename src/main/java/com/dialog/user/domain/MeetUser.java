@@ -1,34 +1,48 @@
 package com.dialog.user.domain;
 
 
+import java.util.Objects;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-//권한(role) 컬럼이 없어서 권한 확장이 필요할 경우 엔티티에 role 컬럼이나 별도 Role 테이블 연동이 필요하다.
+//권한은 단일 role 컬럼(USER/ADMIN). 사용자별 다중 권한이 필요해지면 별도 Role 테이블 연동이 필요하다.
 
 //계정 상태(잠금, 비활성화, 만료) 컬럼이 없는데, 보안 강화 필요 시 추가 권장.
 
 //패스워드 길이 200자 지정은 넉넉하지만 비밀번호 암호화 정책에 따라 충분히 커버하는지 확인 필요.
 
-//SNS ID 필드 unique 설정이 필요하면 인덱스 및 제약 조건을 DB쪽에서 추가 고려.
+//SNS ID 는 (social_type, sns_id) 복합 유니크 인덱스로 조회/중복 방지 (uk_meet_user_social).
 
 @Entity
 @Getter
 @Setter
-@Table(name = "meet_user")
+@DynamicUpdate // 변경된 컬럼만 UPDATE
+@Table(name = "meet_user",
+       uniqueConstraints = @UniqueConstraint(name = "uk_meet_user_social", columnNames = {"social_type", "sns_id"}))
 public class MeetUser {
 
-    // 1. 기본키 ID, 자동 증가 전략 사용
+    // 1. 기본키 ID, 풀링 시퀀스 전략 사용 (한 번에 50개씩 할당받아 INSERT 를 JDBC 배치로 묶을 수 있음)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meet_user_seq")
+    @SequenceGenerator(name = "meet_user_seq", sequenceName = "meet_user_seq", allocationSize = 50)
     private Long id; // 유저에 대한 고유 id값
 
     // 2. 로그인 시 사용되는 사용자명. 반드시 유니크하며 널 불가, 길이는 최대 100자
@@ -63,6 +77,18 @@ public class MeetUser {
     @Column(length = 100)
     private String snsId;
 
+    // 토큰 에포크: 모든 기기 로그아웃 시 1 증가하며, 액세스 토큰에 발급 당시 값이 ver 클레임으로 들어간다
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long tokenVersion;
+
+    // 권한 (기본 USER). 액세스 토큰 발급 시 rol 클레임으로 들어간다
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // 마이그레이션과 같은 VARCHAR (DB 네이티브 ENUM 타입 사용 안 함)
+    @Column(nullable = false, length = 20)
+    @ColumnDefault("'USER'")
+    private UserRole role = UserRole.USER;
+
     // 10. 기본 생성자 (JPA 필요)
     public MeetUser() {}
 
@@ -82,11 +108,32 @@ public class MeetUser {
     }
 
     // 12. 소셜 로그인 시 기존 사용자가 재로그인하면 이름과 프로필 이미지 URL만 업데이트 할 수 있는 메서드
-    public void updateSocialInfo(String name, String profileImgUrl, String snsId, String socialType) {
-       this.name = name;
-       this.profileImgUrl = profileImgUrl;
-       this.snsId = snsId;
-       this.socialType = socialType;
+    //     값이 실제로 바뀐 필드만 대입하며, 바뀐 것이 없으면 false (변경 감지 UPDATE 가 발생하지 않음)
+    public boolean updateSocialInfo(String name, String profileImgUrl, String snsId, String socialType) {
+       if (!isSocialInfoChanged(name, profileImgUrl, snsId, socialType)) {
+           return false;
+       }
+       if (!Objects.equals(this.name, name)) {
+           this.name = name;
+       }
+       if (!Objects.equals(this.profileImgUrl, profileImgUrl)) {
+           this.profileImgUrl = profileImgUrl;
+       }
+       if (!Objects.equals(this.snsId, snsId)) {
+           this.snsId = snsId;
+       }
+       if (!Objects.equals(this.socialType, socialType)) {
+           this.socialType = socialType;
+       }
+       return true;
+    }
+
+    // 13. 소셜 정보 중 하나라도 현재 값과 다른지 여부 (객체를 변경하지 않음)
+    public boolean isSocialInfoChanged(String name, String profileImgUrl, String snsId, String socialType) {
+       return !Objects.equals(this.name, name)
+               || !Objects.equals(this.profileImgUrl, profileImgUrl)
+               || !Objects.equals(this.snsId, snsId)
+               || !Objects.equals(this.socialType, socialType);
     }
     
     // 계정 잠금, 비활성화 필요할시 사용.
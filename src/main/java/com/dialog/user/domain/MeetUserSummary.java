@@ -0,0 +1,8 @@
+package com.dialog.user.domain;
+
+/**
+ * 토큰 발급/응답에 필요한 사용자 컬럼만 담은 읽기 전용 프로젝션
+ * - 비밀번호 해시 등 나머지 컬럼을 읽지 않고, 영속성 컨텍스트에 올라가지 않아 지연 로딩 문제가 없다
+ */
+public record MeetUserSummary(Long id, String email, String name, UserRole role) {
+}
@@ -0,0 +1,18 @@
+package com.dialog.user.domain;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자 권한 변경 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoleChangeRequest {
+
+    @NotNull
+    private UserRole role;
+}
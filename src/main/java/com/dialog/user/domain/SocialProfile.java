@@ -0,0 +1,39 @@
+package com.dialog.user.domain;
+
+import java.util.Map;
+
+/**
+ * 소셜 로그인(OAuth2) 제공자에서 받아온 사용자 프로필
+ * - 제공자별 응답 속성을 MeetUser 컬럼에 맞춰 정규화한다
+ */
+public record SocialProfile(String socialType, String snsId, String email, String name, String profileImgUrl) {
+
+    // 제공자 속성 -> 프로필 (google: OIDC 표준 클레임, kakao: kakao_account/properties)
+    @SuppressWarnings("unchecked")
+    public static SocialProfile of(String registrationId, Map<String, Object> attributes) {
+        if ("kakao".equals(registrationId)) {
+            Map<String, Object> account = (Map<String, Object>) attributes.getOrDefault("kakao_account", Map.of());
+            Map<String, Object> profile = (Map<String, Object>) account.getOrDefault("profile", Map.of());
+            return new SocialProfile("kakao",
+                    String.valueOf(attributes.get("id")),
+                    (String) account.get("email"),
+                    (String) profile.get("nickname"),
+                    (String) profile.get("profile_image_url"));
+        }
+        return new SocialProfile(registrationId,
+                String.valueOf(attributes.get("sub")),
+                (String) attributes.get("email"),
+                (String) attributes.get("name"),
+                (String) attributes.get("picture"));
+    }
+
+    // 이메일 제공에 동의하지 않은 계정은 (플랫폼, SNS ID) 로 대체 이메일 생성 (email 컬럼 NOT NULL/UNIQUE)
+    public String emailOrPlaceholder() {
+        return email != null ? email : socialType + "_" + snsId + "@social.dialog";
+    }
+
+    // name 컬럼 NOT NULL
+    public String nameOrDefault() {
+        return name != null ? name : socialType + " 사용자";
+    }
+}
@@ -0,0 +1,26 @@
+package com.dialog.user.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 사용자 일괄 가져오기 진행 이벤트 (응답 NDJSON 한 줄)
+ * - error: 행 단위 실패 (line 은 입력의 1-based 줄 번호)
+ * - progress: 배치 하나를 처리할 때마다 누적 건수
+ * - done: 마지막 누적 건수
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportEvent(String type, Long line, String email, String message,
+                              Long processed, Long imported, Long duplicates, Long failed) {
+
+    public static UserImportEvent error(long line, String email, String message) {
+        return new UserImportEvent("error", line, email, message, null, null, null, null);
+    }
+
+    public static UserImportEvent progress(long processed, long imported, long duplicates, long failed) {
+        return new UserImportEvent("progress", null, null, null, processed, imported, duplicates, failed);
+    }
+
+    public static UserImportEvent done(long processed, long imported, long duplicates, long failed) {
+        return new UserImportEvent("done", null, null, null, processed, imported, duplicates, failed);
+    }
+}
@@ -0,0 +1,35 @@
+package com.dialog.user.domain;
+
+/**
+ * 사용자 일괄 가져오기 입력 형식
+ * - CSV: 첫 줄은 MeetUserDto 필드명 헤더 (email,password,name,...), 따옴표 필드 지원 (필드 안 줄바꿈은 미지원)
+ * - NDJSON: 한 줄에 MeetUserDto JSON 하나
+ */
+public enum UserImportFormat {
+
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    UserImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    // Content-Type 헤더 -> 형식 (charset 등 파라미터는 무시)
+    public static UserImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String type = contentType.split(";", 2)[0].trim();
+            for (UserImportFormat format : values()) {
+                if (format.mediaType.equalsIgnoreCase(type)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 가져오기 형식입니다: " + contentType);
+    }
+}
@@ -0,0 +1,12 @@
+package com.dialog.user.domain;
+
+/**
+ * 사용자 권한 (meet_user.role, 액세스 토큰의 rol 클레임)
+ * - ADMIN 은 USER 권한을 포함한다 (사용자 일괄 가져오기 등 관리 API)
+ * - 변경은 PUT /api/users/{id}/role (ADMIN) 로만 한다. 변경 시 토큰 에포크가 올라 기존 토큰이 모두 거부된다
+ *   (DB 를 직접 UPDATE 하면 이미 발급된 토큰은 만료 전까지 이전 권한을 유지하므로 token_version 도 함께 올려야 한다)
+ */
+public enum UserRole {
+    USER,
+    ADMIN
+}
@@ -1,14 +1,25 @@
 package com.dialog.user.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.MeetUserSummary;
 
-public interface MeetUserRepository extends JpaRepository<MeetUser, Long> {
+// 인터페이스에 선언한 조회 메서드는 SimpleJpaRepository 의 readOnly 트랜잭션을 물려받지 않으므로,
+// replica 로 보내도 되는 조회(MeetUserLookupCache 적재용)에만 @Transactional(readOnly = true) 를 붙인다
+// (쓰기 트랜잭션 안이나 ReplicaReadGuard.onPrimary 안에서 부르면 그대로 primary)
+public interface MeetUserRepository extends JpaRepository<MeetUser, Long>, MeetUserRepositoryCustom {
 
     // email 컬럼을 기반으로 MeetUser 객체를 optional 형태로 조회
+    @Transactional(readOnly = true)
     Optional<MeetUser> findByEmail(String email);
     
 //    // email 컬럼으로 Optional<MeetUser> 조회
@@ -17,9 +28,54 @@ public interface MeetUserRepository extends JpaRepository<MeetUser, Long> {
     // 소셜 로그인 고유 ID 조회
     Optional<MeetUser> findBySnsId(String snsId);
 
+    // 소셜 로그인 (플랫폼, 고유 ID) 조회
+    @Transactional(readOnly = true)
+    Optional<MeetUser> findBySocialTypeAndSnsId(String socialType, String snsId);
+
+    // id, email, name, role 만 조회 (전체 행/비밀번호 해시를 읽지 않는 요약 프로젝션)
+    @Query("select new com.dialog.user.domain.MeetUserSummary(u.id, u.email, u.name, u.role) from MeetUser u where u.id = :id")
+    Optional<MeetUserSummary> findSummaryById(@Param("id") Long id);
+
     // email 컬럼이 DB에 존재하는지 여부 확인 (중복 체크 등에 활용)
+    @Transactional(readOnly = true)
     boolean existsByEmail(String email);
     
 //    // email 컬럼 존재 여부 확인
 //    boolean existsByEmail(String email);
+
+    // 주어진 이메일 중 이미 가입된 것만 반환 (일괄 가져오기 중복 확인을 IN 쿼리 한 번으로)
+    @Query("select u.email from MeetUser u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 비밀번호 해시 교체 - 현재 해시가 oldHash 일 때만 (해시 비용 업그레이드 시 동시 변경 덮어쓰기 방지)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MeetUser u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldHash") String oldHash,
+                                  @Param("newHash") String newHash);
+
+    // 토큰 에포크 1 증가 (모든 기기 로그아웃) - UPDATE 한 번
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MeetUser u set u.tokenVersion = u.tokenVersion + 1 where u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
+
+    // 비밀번호 해시만 조회 (로그인 검증용: 캐시된 사용자 객체의 해시는 다른 노드의 변경을 놓칠 수 있음)
+    @Query("select u.password from MeetUser u where u.id = :id")
+    Optional<String> findPasswordById(@Param("id") Long id);
+
+    // 토큰 에포크만 조회 (TokenEpochCache 적재용)
+    @Query("select u.tokenVersion from MeetUser u where u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    // 소셜 최초 로그인 가입 - 같은 (social_type, sns_id) 또는 email 행이 이미 있으면 아무 것도 하지 않는다
+    // 동시 최초 로그인에도 예외 없이 한 행만 생긴다 (MySQL / H2 MODE=MySQL). id 는 nextId() 로 할당
+    @Transactional
+    @Modifying
+    @Query(value = "insert into meet_user (id, email, password, name, social_type, sns_id, profile_img_url, token_version, role) "
+                 + "values (:id, :email, :password, :name, :socialType, :snsId, :profileImgUrl, 0, 'USER') "
+                 + "on duplicate key update id = id", nativeQuery = true)
+    int insertSocialUserIfAbsent(@Param("id") Long id, @Param("email") String email, @Param("password") String password,
+                                 @Param("name") String name, @Param("socialType") String socialType,
+                                 @Param("snsId") String snsId, @Param("profileImgUrl") String profileImgUrl);
 }
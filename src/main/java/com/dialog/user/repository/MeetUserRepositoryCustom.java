@@ -0,0 +1,7 @@
+package com.dialog.user.repository;
+
+public interface MeetUserRepositoryCustom {
+
+    // 엔티티와 같은 풀링 시퀀스에서 meet_user PK 할당 (네이티브 INSERT 용, 트랜잭션 안에서 호출)
+    Long nextId();
+}
@@ -0,0 +1,29 @@
+package com.dialog.user.repository;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import com.dialog.user.domain.MeetUser;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * MeetUserRepository 사용자 정의 구현
+ * - 네이티브 INSERT 도 JPA 저장과 같은 시퀀스/할당 풀에서 id 를 받도록 Hibernate 생성기를 직접 호출한다
+ */
+public class MeetUserRepositoryCustomImpl implements MeetUserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Long nextId() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(MeetUser.class)
+                .getGenerator();
+        return (Long) generator.generate(session, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.dialog.user.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+import com.dialog.user.domain.UserImportEvent;
+import com.dialog.user.domain.UserImportFormat;
+
+public interface MeetUserImportService {
+
+    // CSV/NDJSON 스트림에서 사용자 일괄 가입, 행 단위 오류와 배치별 진행 상황을 listener 로 전달하고 최종 집계(done)를 반환
+    UserImportEvent importUsers(Reader reader, UserImportFormat format, Consumer<UserImportEvent> listener)
+            throws IOException;
+}
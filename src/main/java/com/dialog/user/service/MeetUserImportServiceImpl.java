@@ -0,0 +1,198 @@
+package com.dialog.user.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.security.AsyncPasswordHasher;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.MeetUserDto;
+import com.dialog.user.domain.UserImportEvent;
+import com.dialog.user.domain.UserImportFormat;
+import com.dialog.user.repository.MeetUserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 일괄 가져오기
+ * - 입력을 batch-size 행씩 끊어 처리: 검증 -> 중복 확인(IN 쿼리 한 번) -> 병렬 해싱 -> 배치 INSERT 트랜잭션 하나
+ * - 메모리에는 현재 배치만 올라가므로 입력 크기와 무관하게 일정하다
+ * - 배치 저장 중 동시 가입으로 이메일 UNIQUE 위반이 나면 그 배치만 행 단위로 다시 저장한다
+ */
+@Service
+@Slf4j
+public class MeetUserImportServiceImpl implements MeetUserImportService {
+
+    private static final String DUPLICATE_MESSAGE = "이미 가입된 이메일입니다.";
+
+    private final MeetUserRepository meetUserRepository;
+    private final MeetUserLookupCache meetUserLookupCache;
+    private final AsyncPasswordHasher asyncPasswordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectReader dtoReader;
+    private final int batchSize;
+
+    public MeetUserImportServiceImpl(MeetUserRepository meetUserRepository,
+                                     MeetUserLookupCache meetUserLookupCache,
+                                     AsyncPasswordHasher asyncPasswordHasher,
+                                     TransactionTemplate transactionTemplate,
+                                     Validator validator,
+                                     ObjectMapper objectMapper,
+                                     @Value("${dialog.user.import.batch-size:500}") int batchSize) {
+        this.meetUserRepository = meetUserRepository;
+        this.meetUserLookupCache = meetUserLookupCache;
+        this.asyncPasswordHasher = asyncPasswordHasher;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.dtoReader = objectMapper.readerFor(MeetUserDto.class);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public UserImportEvent importUsers(Reader reader, UserImportFormat format, Consumer<UserImportEvent> listener)
+            throws IOException {
+        Counters counters = new Counters();
+        try (UserImportReader rows = new UserImportReader(reader, format, dtoReader)) {
+            List<UserImportReader.Row> batch = new ArrayList<>(batchSize);
+            UserImportReader.Row row;
+            while ((row = rows.next()) != null) {
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    processBatch(batch, counters, listener);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                processBatch(batch, counters, listener);
+            }
+        }
+
+        UserImportEvent done = UserImportEvent.done(counters.processed, counters.imported, counters.duplicates,
+                counters.failed);
+        log.info("사용자 일괄 가져오기 완료: 처리 {}, 가입 {}, 중복 {}, 실패 {}",
+                counters.processed, counters.imported, counters.duplicates, counters.failed);
+        listener.accept(done);
+        return done;
+    }
+
+    private void processBatch(List<UserImportReader.Row> batch, Counters counters,
+                              Consumer<UserImportEvent> listener) {
+        counters.processed += batch.size();
+
+        // 1. 파싱/빈 검증 + 파일 안 중복 제거
+        List<UserImportReader.Row> valid = new ArrayList<>(batch.size());
+        Set<String> seen = new HashSet<>();
+        for (UserImportReader.Row row : batch) {
+            String error = row.error() != null ? row.error() : validate(row.dto());
+            if (error != null) {
+                counters.failed++;
+                listener.accept(UserImportEvent.error(row.line(), row.dto() == null ? null : row.dto().getEmail(), error));
+            } else if (!seen.add(row.dto().getEmail())) {
+                counters.duplicates++;
+                listener.accept(UserImportEvent.error(row.line(), row.dto().getEmail(), "파일 안에서 중복된 이메일입니다."));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // 2. 기존 가입자 중복 확인 (배치당 IN 쿼리 한 번)
+        if (!valid.isEmpty()) {
+            Set<String> existing = new HashSet<>(meetUserRepository.findExistingEmails(seen));
+            List<UserImportReader.Row> fresh = new ArrayList<>(valid.size());
+            for (UserImportReader.Row row : valid) {
+                if (existing.contains(row.dto().getEmail())) {
+                    counters.duplicates++;
+                    listener.accept(UserImportEvent.error(row.line(), row.dto().getEmail(), DUPLICATE_MESSAGE));
+                } else {
+                    fresh.add(row);
+                }
+            }
+
+            // 3. 병렬 해싱 후 저장
+            if (!fresh.isEmpty()) {
+                List<String> hashes = asyncPasswordHasher.encodeAll(
+                        fresh.stream().map(row -> row.dto().getPassword()).toList());
+                List<MeetUser> users = new ArrayList<>(fresh.size());
+                for (int i = 0; i < fresh.size(); i++) {
+                    users.add(toEntity(fresh.get(i).dto(), hashes.get(i)));
+                }
+                save(fresh, users, counters, listener);
+            }
+        }
+
+        listener.accept(UserImportEvent.progress(counters.processed, counters.imported, counters.duplicates,
+                counters.failed));
+    }
+
+    // 배치 INSERT 트랜잭션 하나, UNIQUE 위반 시 행 단위 재시도
+    private void save(List<UserImportReader.Row> rows, List<MeetUser> users, Counters counters,
+                      Consumer<UserImportEvent> listener) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> meetUserRepository.saveAll(users));
+            counters.imported += users.size();
+            users.forEach(meetUserLookupCache::evict);
+            return;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("일괄 가져오기 배치 저장 충돌, 행 단위로 재시도: {}", e.getMostSpecificCause().getMessage());
+        }
+
+        for (int i = 0; i < users.size(); i++) {
+            // 실패한 트랜잭션에서 할당된 id 는 버리고 새로 받는다
+            MeetUser user = users.get(i);
+            user.setId(null);
+            try {
+                transactionTemplate.executeWithoutResult(status -> meetUserRepository.save(user));
+                counters.imported++;
+                meetUserLookupCache.evict(user);
+            } catch (DataIntegrityViolationException e) {
+                counters.duplicates++;
+                listener.accept(UserImportEvent.error(rows.get(i).line(), user.getEmail(), DUPLICATE_MESSAGE));
+            }
+        }
+    }
+
+    // 위반 항목을 "필드: 메시지" 로 이어 붙임, 위반이 없으면 null
+    private String validate(MeetUserDto dto) {
+        Set<ConstraintViolation<MeetUserDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private MeetUser toEntity(MeetUserDto dto, String passwordHash) {
+        return MeetUser.builder()
+                .email(dto.getEmail())
+                .password(passwordHash)
+                .name(dto.getName())
+                .department(dto.getDepartment())
+                .position(dto.getPosition())
+                .build();
+    }
+
+    // 가져오기 한 번의 누적 건수 (요청 스레드 하나에서만 갱신)
+    private static final class Counters {
+        long processed;
+        long imported;
+        long duplicates;
+        long failed;
+    }
+}
@@ -0,0 +1,158 @@
+package com.dialog.user.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dialog.datasource.ReplicaReadGuard;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * MeetUserRepository 읽기 캐시 (read-through)
+ * - 이메일, (소셜 타입, SNS ID) 기준 사용자 조회와 이메일 존재 여부를 캐시한다
+ * - "없음" 결과도 negative-ttl 동안 짧게 캐시해 가입 중복 확인이 반복돼도 DB까지 가지 않는다
+ * - 사용자를 저장/수정하는 쪽에서 evict 를 호출해야 한다 (트랜잭션 안이면 종료 후 한 번 더 비움)
+ * - 캐시 미스 조회는 replica 로 가며, evict 된(방금 쓴) 키는 복제 지연 동안 primary 에서 읽는다
+ * - 반환되는 MeetUser 는 여러 요청이 공유하는 준영속 객체이므로 변경하면 안 된다
+ */
+@Component
+public class MeetUserLookupCache {
+
+    // 복제 지연 보호 범위 이름
+    private static final String USER_SCOPE = "meet_user";
+
+    private final MeetUserRepository meetUserRepository;
+    private final ReplicaReadGuard replicaReadGuard;
+    private final Cache<String, Optional<MeetUser>> byEmail;
+    private final Cache<SocialKey, Optional<MeetUser>> bySocial;
+    private final Cache<String, Boolean> emailExists;
+
+    public MeetUserLookupCache(MeetUserRepository meetUserRepository,
+                               ReplicaReadGuard replicaReadGuard,
+                               @Value("${dialog.user.cache.max-size:100000}") long maxSize,
+                               @Value("${dialog.user.cache.ttl:5m}") Duration ttl,
+                               @Value("${dialog.user.cache.negative-ttl:10s}") Duration negativeTtl,
+                               MeterRegistry meterRegistry) {
+        this.meetUserRepository = meetUserRepository;
+        this.replicaReadGuard = replicaReadGuard;
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PresenceExpiry<String, Optional<MeetUser>>(ttl, negativeTtl, Optional::isPresent))
+                .recordStats()
+                .build();
+        this.bySocial = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PresenceExpiry<SocialKey, Optional<MeetUser>>(ttl, negativeTtl, Optional::isPresent))
+                .recordStats()
+                .build();
+        this.emailExists = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PresenceExpiry<String, Boolean>(ttl, negativeTtl, Boolean::booleanValue))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "user_email");
+        CaffeineCacheMetrics.monitor(meterRegistry, bySocial, "user_social");
+        CaffeineCacheMetrics.monitor(meterRegistry, emailExists, "user_email_exists");
+    }
+
+    // 1. 이메일로 사용자 조회
+    public Optional<MeetUser> findByEmail(String email) {
+        return byEmail.get(email, key -> replicaReadGuard.read(USER_SCOPE, key, () -> meetUserRepository.findByEmail(key)));
+    }
+
+    // 2. (소셜 타입, SNS ID) 로 사용자 조회
+    public Optional<MeetUser> findBySocial(String socialType, String snsId) {
+        return bySocial.get(new SocialKey(socialType, snsId), key -> replicaReadGuard.read(USER_SCOPE, key,
+                () -> meetUserRepository.findBySocialTypeAndSnsId(key.socialType(), key.snsId())));
+    }
+
+    // 3. 이메일 존재 여부 (가입 중복 확인) - 이메일 조회 캐시에 있으면 그 결과를 그대로 사용
+    public boolean existsByEmail(String email) {
+        Optional<MeetUser> cached = byEmail.getIfPresent(email);
+        if (cached != null) {
+            return cached.isPresent();
+        }
+        return emailExists.get(email,
+                key -> replicaReadGuard.read(USER_SCOPE, key, () -> meetUserRepository.existsByEmail(key)));
+    }
+
+    // 4. 사용자 저장/수정 시 무효화
+    public void evict(MeetUser user) {
+        evictEmail(user.getEmail());
+        if (user.getSocialType() != null && user.getSnsId() != null) {
+            evictSocial(user.getSocialType(), user.getSnsId());
+        }
+    }
+
+    public void evictEmail(String email) {
+        Runnable action = () -> {
+            byEmail.invalidate(email);
+            emailExists.invalidate(email);
+        };
+        replicaReadGuard.markWritten(email);
+        action.run();
+        afterCompletion(action);
+    }
+
+    public void evictSocial(String socialType, String snsId) {
+        SocialKey key = new SocialKey(socialType, snsId);
+        replicaReadGuard.markWritten(key);
+        bySocial.invalidate(key);
+        afterCompletion(() -> bySocial.invalidate(key));
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private record SocialKey(String socialType, String snsId) {
+    }
+
+    // 있음/없음에 따라 다른 TTL 적용 (없음은 짧게)
+    private static final class PresenceExpiry<K, V> implements Expiry<K, V> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+        private final Predicate<V> present;
+
+        PresenceExpiry(Duration ttl, Duration negativeTtl, Predicate<V> present) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+            this.present = present;
+        }
+
+        @Override
+        public long expireAfterCreate(K key, V value, long currentTime) {
+            return present.test(value) ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
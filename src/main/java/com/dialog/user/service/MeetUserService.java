@@ -0,0 +1,22 @@
+package com.dialog.user.service;
+
+import com.dialog.user.domain.LoginDto;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.MeetUserDto;
+import com.dialog.user.domain.SocialProfile;
+import com.dialog.user.domain.UserRole;
+
+public interface MeetUserService {
+
+    // 이메일/비밀번호 로그인, 실패 시 IllegalArgumentException
+    MeetUser login(LoginDto loginDto);
+
+    // 이메일 회원가입, 이미 가입된 이메일이면 IllegalStateException
+    MeetUser signup(MeetUserDto meetUserDto);
+
+    // 소셜 로그인 사용자 가입/갱신 (바뀐 값이 있을 때만 UPDATE, 이메일이 다른 계정 소유면 409)
+    MeetUser upsertSocialUser(SocialProfile profile);
+
+    // 권한 변경 (바뀌면 사용자의 모든 토큰 폐기), 없는 사용자면 IllegalArgumentException
+    MeetUser changeRole(Long userId, UserRole role);
+}
@@ -0,0 +1,215 @@
+package com.dialog.user.service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.audit.domain.AuditEventType;
+import com.dialog.audit.service.AuditEventPublisher;
+import com.dialog.datasource.ReplicaReadGuard;
+import com.dialog.exception.PasswordHashingBusyException;
+import com.dialog.exception.SocialAccountConflictException;
+import com.dialog.security.AsyncPasswordHasher;
+import com.dialog.token.service.RefreshTokenService;
+import com.dialog.user.domain.LoginDto;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.MeetUserDto;
+import com.dialog.user.domain.SocialProfile;
+import com.dialog.user.domain.UserRole;
+import com.dialog.user.repository.MeetUserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeetUserServiceImpl implements MeetUserService {
+
+    // 소셜 가입 사용자의 비밀번호 자리표시값 (어떤 해시 형식과도 일치하지 않아 비밀번호 로그인 불가)
+    private static final String SOCIAL_PASSWORD = "{social}";
+
+    private final MeetUserRepository meetUserRepository;
+
+    // 이메일/소셜 ID 조회 캐시 (사용자 저장/수정 시 무효화)
+    private final MeetUserLookupCache meetUserLookupCache;
+
+    // 해싱은 전용 풀에서 실행 (요청 스레드 보호)
+    private final AsyncPasswordHasher asyncPasswordHasher;
+
+    // 해시 비용 업그레이드 필요 여부 판단용
+    private final PasswordEncoder passwordEncoder;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // 방금 INSERT 한 소셜 사용자를 다시 읽을 때 primary 사용
+    private final ReplicaReadGuard replicaReadGuard;
+
+    // 로그인 성공/실패 감사 이벤트
+    private final AuditEventPublisher auditEventPublisher;
+
+    // 권한 변경 시 기존 토큰 폐기 (토큰 에포크 증가 포함)
+    private final RefreshTokenService refreshTokenService;
+
+    // 1. 로그인: 이메일로 사용자 조회(캐시) 후 비밀번호 검증, 오래된 비용의 해시는 현재 비용으로 재해싱
+    //    해시는 캐시된 사용자 객체가 아니라 primary 에서 새로 읽는다 (비밀번호 변경 직후 옛 비밀번호가 통과하지 않도록)
+    //    없는 이메일/소셜 전용 계정도 같은 비용의 해시 비교를 한 번 치른다 (응답 시간으로 가입 여부를 알 수 없게)
+    @Override
+    public MeetUser login(LoginDto loginDto) {
+        MeetUser user = meetUserLookupCache.findByEmail(loginDto.getEmail()).orElse(null);
+        String passwordHash = user == null ? null
+                : replicaReadGuard.onPrimary(() -> meetUserRepository.findPasswordById(user.getId())).orElse(null);
+        if (passwordHash == null || SOCIAL_PASSWORD.equals(passwordHash)) {
+            await(asyncPasswordHasher.matchesNothing(loginDto.getPassword()));
+            auditEventPublisher.publish(AuditEventType.LOGIN_FAILURE, user == null ? null : user.getId(),
+                    loginDto.getEmail(), user == null ? "unknown-email" : "no-password");
+            throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
+
+        if (!await(asyncPasswordHasher.matches(loginDto.getPassword(), passwordHash))) {
+            auditEventPublisher.publish(AuditEventType.LOGIN_FAILURE, user.getId(), loginDto.getEmail(), "bad-password");
+            throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
+        auditEventPublisher.publish(AuditEventType.LOGIN_SUCCESS, user.getId(), user.getEmail(), null);
+
+        if (passwordEncoder.upgradeEncoding(passwordHash)) {
+            upgradePassword(user, passwordHash, loginDto.getPassword());
+        }
+        return user;
+    }
+
+    // 2. 회원가입: 중복 이메일 확인(캐시) 후 비밀번호를 해싱해 저장
+    //    캐시 확인과 INSERT 사이에 같은 이메일 가입이 끼어들면 유니크 제약 위반 -> 사전 확인과 같은 400 응답으로 변환
+    @Override
+    public MeetUser signup(MeetUserDto meetUserDto) {
+        if (meetUserLookupCache.existsByEmail(meetUserDto.getEmail())) {
+            throw duplicateEmail();
+        }
+
+        MeetUser user = MeetUser.builder()
+                .email(meetUserDto.getEmail())
+                .password(await(asyncPasswordHasher.encode(meetUserDto.getPassword())))
+                .name(meetUserDto.getName())
+                .department(meetUserDto.getDepartment())
+                .position(meetUserDto.getPosition())
+                .build();
+        MeetUser saved;
+        try {
+            saved = meetUserRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            meetUserLookupCache.evictEmail(meetUserDto.getEmail()); // 먼저 가입한 쪽이 보이도록 "없음" 캐시 제거
+            throw duplicateEmail();
+        }
+        meetUserLookupCache.evict(saved); // "없음" 으로 캐시된 결과 제거
+        return saved;
+    }
+
+    private static IllegalStateException duplicateEmail() {
+        return new IllegalStateException("이미 가입된 이메일입니다.");
+    }
+
+    // 3. 소셜 로그인 가입/갱신
+    //    - 재로그인: (social_type, sns_id) 인덱스(캐시) 조회만 하고, 이름/프로필이 실제로 바뀐 경우에만 UPDATE
+    //    - 최초 로그인: INSERT ... ON DUPLICATE KEY 로 동시 요청에도 한 행만 생성 (예외 기반 재시도 없음)
+    //    - 같은 이메일의 다른 계정이 있으면 연결하지 않고 SocialAccountConflictException (409)
+    @Override
+    public MeetUser upsertSocialUser(SocialProfile profile) {
+        String name = profile.nameOrDefault();
+        Optional<MeetUser> existing = meetUserLookupCache.findBySocial(profile.socialType(), profile.snsId());
+        if (existing.isPresent()) {
+            MeetUser user = existing.get();
+            if (!user.isSocialInfoChanged(name, profile.profileImgUrl(), profile.snsId(), profile.socialType())) {
+                return user;
+            }
+            return transactionTemplate.execute(status -> updateSocialInfo(user.getId(), profile));
+        }
+
+        Integer inserted = transactionTemplate.execute(status -> meetUserRepository.insertSocialUserIfAbsent(
+                meetUserRepository.nextId(), profile.emailOrPlaceholder(), SOCIAL_PASSWORD,
+                name, profile.socialType(), profile.snsId(), profile.profileImgUrl()));
+        meetUserLookupCache.evictSocial(profile.socialType(), profile.snsId());
+        meetUserLookupCache.evictEmail(profile.emailOrPlaceholder());
+
+        // INSERT 문이 끝난 뒤 새로 읽으므로 다른 요청이 먼저 만든 행도 보인다 (복제 지연이 없도록 primary 에서)
+        Optional<MeetUser> created = replicaReadGuard.onPrimary(
+                () -> meetUserRepository.findBySocialTypeAndSnsId(profile.socialType(), profile.snsId()));
+        if (created.isPresent()) {
+            if (inserted != null && inserted > 0) {
+                log.info("{} 소셜 로그인 사용자 가입: {}", profile.socialType(), created.get().getId());
+            }
+            return created.get();
+        }
+
+        // 같은 이메일의 계정이 이미 있어 삽입되지 않은 경우: 소유 확인 없이 연결하지 않고 거절
+        throw SocialAccountConflictException.INSTANCE;
+    }
+
+    // 바뀐 필드만 대입 -> 커밋 시 변경된 컬럼만 UPDATE (@DynamicUpdate)
+    private MeetUser updateSocialInfo(Long userId, SocialProfile profile) {
+        MeetUser user = meetUserRepository.findById(userId)
+                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+        if (user.updateSocialInfo(profile.nameOrDefault(), profile.profileImgUrl(), profile.snsId(), profile.socialType())) {
+            meetUserLookupCache.evict(user);
+        }
+        return user;
+    }
+
+    // 4. 권한 변경: 실제로 바뀐 경우에만 저장하고, 같은 트랜잭션에서 사용자의 모든 토큰을 폐기한다
+    //    (토큰 에포크가 올라가 이전 권한(rol)이 담긴 액세스 토큰과 캐시된 리프레시 토큰이 바로 거부됨)
+    @Override
+    public MeetUser changeRole(Long userId, UserRole role) {
+        return transactionTemplate.execute(status -> {
+            MeetUser user = meetUserRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+            UserRole previous = user.getRole();
+            if (previous == role) {
+                return user;
+            }
+            user.setRole(role);
+            meetUserRepository.saveAndFlush(user); // 에포크 증가 쿼리가 영속성 컨텍스트를 비우기 전에 반영
+            refreshTokenService.revokeAllByUser(userId);
+            meetUserLookupCache.evict(user);
+            auditEventPublisher.publish(AuditEventType.ROLE_CHANGED, userId, user.getEmail(), previous + "->" + role);
+            log.info("사용자 {}의 권한이 {}에서 {}로 변경되었습니다.", userId, previous, role);
+            return user;
+        });
+    }
+
+    // 5. 비밀번호 해시 업그레이드: 응답을 지연시키지 않도록 비동기로 재해싱 후 조건부 UPDATE
+    //    (그 사이 비밀번호가 바뀌었다면 이전 해시와 일치하지 않아 덮어쓰지 않음)
+    private void upgradePassword(MeetUser user, String oldHash, String rawPassword) {
+        Long userId = user.getId();
+        try {
+            asyncPasswordHasher.encode(rawPassword)
+                    .thenAccept(newHash -> {
+                        if (meetUserRepository.updatePasswordIfUnchanged(userId, oldHash, newHash) > 0) {
+                            meetUserLookupCache.evictEmail(user.getEmail());
+                            log.info("사용자 {}의 비밀번호 해시를 현재 비용으로 업그레이드했습니다.", userId);
+                        }
+                    })
+                    .exceptionally(e -> {
+                        log.warn("사용자 {}의 비밀번호 해시 업그레이드 실패", userId, e);
+                        return null;
+                    });
+        } catch (PasswordHashingBusyException e) {
+            // 해싱 풀이 포화 상태면 다음 로그인 때 다시 시도
+            log.debug("해싱 풀 포화로 사용자 {}의 비밀번호 해시 업그레이드를 건너뜁니다.", userId);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
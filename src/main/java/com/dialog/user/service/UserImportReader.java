@@ -0,0 +1,133 @@
+package com.dialog.user.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dialog.user.domain.MeetUserDto;
+import com.dialog.user.domain.UserImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * 가져오기 입력을 한 줄씩 MeetUserDto 로 읽는 스트리밍 리더 (파일 전체를 메모리에 올리지 않는다)
+ * - 파싱에 실패한 줄도 error 를 담아 반환해 호출 측이 행 단위 오류로 보고한다
+ * - 빈 줄은 건너뛴다
+ */
+class UserImportReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectReader jsonReader;
+    private String[] header;
+    private long lineNumber;
+
+    UserImportReader(Reader reader, UserImportFormat format, ObjectReader jsonReader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+        this.jsonReader = jsonReader;
+    }
+
+    // 다음 행, 입력 끝이면 null
+    Row next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == UserImportFormat.NDJSON) {
+                return parseJson(line);
+            }
+            if (header == null) {
+                List<String> columns = splitCsv(line);
+                if (columns == null) {
+                    throw new IllegalArgumentException("CSV 헤더 형식 오류: 닫히지 않은 따옴표");
+                }
+                header = columns.toArray(String[]::new);
+                for (int i = 0; i < header.length; i++) {
+                    header[i] = header[i].trim();
+                }
+                continue;
+            }
+            return parseCsv(line);
+        }
+        return null;
+    }
+
+    private Row parseJson(String line) {
+        try {
+            return new Row(lineNumber, jsonReader.readValue(line), null);
+        } catch (JsonProcessingException e) {
+            return new Row(lineNumber, null, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+
+    private Row parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        if (values == null) {
+            return new Row(lineNumber, null, "CSV 형식 오류: 닫히지 않은 따옴표");
+        }
+        MeetUserDto dto = new MeetUserDto();
+        for (int i = 0; i < header.length && i < values.size(); i++) {
+            String value = values.get(i).isEmpty() ? null : values.get(i);
+            switch (header[i]) {
+                case "email" -> dto.setEmail(value);
+                case "password" -> dto.setPassword(value);
+                case "name" -> dto.setName(value);
+                case "department" -> dto.setDepartment(value);
+                case "position" -> dto.setPosition(value);
+                case "terms" -> dto.setTerms(value == null ? null : Boolean.valueOf(value));
+                case "socialType" -> dto.setSocialType(value);
+                case "profileImgUrl" -> dto.setProfileImgUrl(value);
+                case "snsId" -> dto.setSnsId(value);
+                default -> { } // 알 수 없는 열은 무시
+            }
+        }
+        return new Row(lineNumber, dto, null);
+    }
+
+    // RFC 4180 방식 분리 ("" 는 따옴표 하나), 따옴표가 닫히지 않으면 null
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(field.toString());
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // 입력 한 행: dto 또는 파싱 오류(error) 중 하나
+    record Row(long line, MeetUserDto dto, String error) {
+    }
+}
@@ -0,0 +1,25 @@
+-- 기준 스키마 (H2): 마이그레이션 도입 전 ddl-auto 로 만들어지던 원래 meet_user / refresh_token 테이블
+-- 기존 로컬 파일 DB(jdbc:h2:~/local)는 이력 테이블이 없으면 baseline-on-migrate 로 V0 을 건너뛴다 (mysql 디렉터리와 버전 번호를 맞춘다)
+CREATE TABLE meet_user (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email           VARCHAR(100) NOT NULL,
+    password        VARCHAR(200) NOT NULL,
+    name            VARCHAR(50)  NOT NULL,
+    department      VARCHAR(200),
+    position        VARCHAR(50),
+    social_type     VARCHAR(50),
+    profile_img_url VARCHAR(200),
+    sns_id          VARCHAR(100),
+    CONSTRAINT uk_meet_user_email UNIQUE (email)
+);
+
+CREATE TABLE refresh_token (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    refresh_token VARCHAR(512) NOT NULL,
+    issued_at     TIMESTAMP(6) NOT NULL,
+    expires_at    TIMESTAMP(6) NOT NULL,
+    revoked       BOOLEAN      NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    CONSTRAINT uk_refresh_token_refresh_token UNIQUE (refresh_token),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES meet_user (id)
+);
@@ -0,0 +1,2 @@
+-- 평문 refresh_token 컬럼의 유니크 제약 제거 (H2, 이름은 V0 에서 지정)
+ALTER TABLE refresh_token DROP CONSTRAINT IF EXISTS uk_refresh_token_refresh_token;
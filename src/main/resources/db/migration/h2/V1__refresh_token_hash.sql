@@ -0,0 +1,5 @@
+-- 리프레시 토큰 평문 -> SHA-256 다이제스트(BINARY(32) UNIQUE) 전환 (H2)
+-- 남은 평문 행은 RefreshTokenHashBackfill 이 기동 중(요청 수신 전)에 옮긴다
+ALTER TABLE refresh_token ADD COLUMN token_hash BINARY(32);
+ALTER TABLE refresh_token ADD CONSTRAINT uk_refresh_token_token_hash UNIQUE (token_hash);
+ALTER TABLE refresh_token ALTER COLUMN refresh_token SET NULL;
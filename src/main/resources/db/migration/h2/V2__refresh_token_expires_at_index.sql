@@ -0,0 +1,2 @@
+-- 만료 토큰 청크 삭제(RefreshTokenPurger)용 expires_at 인덱스 (H2)
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token (expires_at);
@@ -0,0 +1,4 @@
+-- 리프레시 토큰 회전/재사용 감지용 토큰 패밀리 컬럼 (H2)
+-- 기존 행은 NULL (패밀리 없음) 로 남으며, 회전 시 새 패밀리가 부여된다
+ALTER TABLE refresh_token ADD COLUMN family_id VARCHAR(36);
+CREATE INDEX idx_refresh_token_family_id ON refresh_token (family_id);
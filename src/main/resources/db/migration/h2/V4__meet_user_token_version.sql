@@ -0,0 +1,2 @@
+-- 사용자별 토큰 에포크 (모든 기기 로그아웃 시 1 증가, 액세스 토큰의 ver 클레임과 비교) (H2)
+ALTER TABLE meet_user ADD COLUMN token_version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,2 @@
+-- 소셜 로그인 조회/중복 방지용 (social_type, sns_id) 복합 유니크 인덱스 (H2)
+ALTER TABLE meet_user ADD CONSTRAINT uk_meet_user_social UNIQUE (social_type, sns_id);
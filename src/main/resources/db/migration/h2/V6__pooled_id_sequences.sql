@@ -0,0 +1,6 @@
+-- IDENTITY -> 풀링 시퀀스(allocationSize 50) 전환 (H2)
+-- pooled 옵티마이저는 읽어 온 값을 블록의 "끝"으로 보고 (값-49 .. 값) 범위를 할당하므로,
+-- mysql V6 과 같이 max(id)+allocationSize 에서 시작해야 기존 행(ddl-auto 로 만든 로컬 DB)의 id 와 겹치지 않는다
+-- (빈 DB 는 50 에서 시작: 첫 블록 1..50)
+CREATE SEQUENCE meet_user_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM meet_user) INCREMENT BY 50;
+CREATE SEQUENCE refresh_token_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM refresh_token) INCREMENT BY 50;
@@ -0,0 +1,3 @@
+-- 만료 전 폐기 토큰 수 게이지(RefreshTokenGauges)용 (revoked, expires_at) 인덱스 (H2)
+-- revoked = TRUE AND expires_at > now 조건이 인덱스 범위만 읽는다
+CREATE INDEX idx_refresh_token_revoked_expires_at ON refresh_token (revoked, expires_at);
@@ -0,0 +1,14 @@
+-- 보안 감사 로그 (H2): AuditEventPublisher 가 링 버퍼에 모아 배치 INSERT 한다
+CREATE TABLE audit_log (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    event_type  VARCHAR(40)  NOT NULL,
+    user_id     BIGINT,
+    subject     VARCHAR(200),
+    remote_addr VARCHAR(64),
+    detail      VARCHAR(200),
+    occurred_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_audit_log_occurred_at ON audit_log (occurred_at);
+CREATE INDEX idx_audit_log_user_occurred_at ON audit_log (user_id, occurred_at);
+
+CREATE SEQUENCE audit_log_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,2 @@
+-- 사용자 권한 (USER/ADMIN, 액세스 토큰의 rol 클레임) (H2)
+ALTER TABLE meet_user ADD COLUMN role VARCHAR(20) DEFAULT 'USER' NOT NULL;
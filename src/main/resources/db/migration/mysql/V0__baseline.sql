@@ -0,0 +1,25 @@
+-- 기준 스키마 (MySQL): 마이그레이션 도입 전 ddl-auto 로 만들어지던 원래 meet_user / refresh_token 테이블
+-- 이미 이 스키마로 운영 중인 DB 는 baseline-on-migrate(baseline-version 0)로 이 파일을 건너뛰고 V1 부터 적용한다
+CREATE TABLE meet_user (
+    id              BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    email           VARCHAR(100) NOT NULL,
+    password        VARCHAR(200) NOT NULL,
+    name            VARCHAR(50)  NOT NULL,
+    department      VARCHAR(200) NULL,
+    position        VARCHAR(50)  NULL,
+    social_type     VARCHAR(50)  NULL,
+    profile_img_url VARCHAR(200) NULL,
+    sns_id          VARCHAR(100) NULL,
+    CONSTRAINT uk_meet_user_email UNIQUE (email)
+);
+
+CREATE TABLE refresh_token (
+    id            BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    refresh_token VARCHAR(512) NOT NULL,
+    issued_at     DATETIME(6)  NOT NULL,
+    expires_at    DATETIME(6)  NOT NULL,
+    revoked       BIT(1)       NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    CONSTRAINT uk_refresh_token_refresh_token UNIQUE (refresh_token),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES meet_user (id)
+);
@@ -0,0 +1,12 @@
+-- V1 의 3) 단계: 평문 refresh_token 컬럼의 유니크 인덱스 제거 (MySQL)
+-- 조회는 token_hash 만 사용하고 평문 컬럼은 백필 후 NULL 이므로 인덱스는 공간과 쓰기 비용만 든다.
+-- ddl-auto 로 만든 기존 DB 는 인덱스 이름이 자동 생성(UK...)이라 information_schema 에서 찾아 지운다 (없으면 아무 것도 안 함)
+SET @legacy_index = (SELECT index_name FROM information_schema.statistics
+                      WHERE table_schema = DATABASE() AND table_name = 'refresh_token'
+                        AND column_name = 'refresh_token' AND non_unique = 0
+                      LIMIT 1);
+SET @drop_legacy_index = IF(@legacy_index IS NULL, 'SELECT 1',
+                            CONCAT('ALTER TABLE refresh_token DROP INDEX `', @legacy_index, '`'));
+PREPARE drop_legacy_index FROM @drop_legacy_index;
+EXECUTE drop_legacy_index;
+DEALLOCATE PREPARE drop_legacy_index;
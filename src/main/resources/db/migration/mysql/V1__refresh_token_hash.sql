@@ -0,0 +1,13 @@
+-- 리프레시 토큰 평문(VARCHAR(512) UNIQUE) -> SHA-256 다이제스트(BINARY(32) UNIQUE) 전환 (MySQL)
+-- 1) 배포 전에 실행: 다이제스트 컬럼 추가, 평문 컬럼은 NULL 허용으로 변경
+ALTER TABLE refresh_token ADD COLUMN token_hash BINARY(32) NULL;
+ALTER TABLE refresh_token ADD CONSTRAINT uk_refresh_token_token_hash UNIQUE (token_hash);
+ALTER TABLE refresh_token MODIFY refresh_token VARCHAR(512) NULL;
+
+-- 2) 배포 후 RefreshTokenHashBackfill 이 기동 시 기존 행을 다이제스트로 옮기고 평문을 NULL 로 비운다.
+--    (애플리케이션 없이 한 번에 옮기려면 아래 UPDATE 를 사용해도 된다)
+-- UPDATE refresh_token SET token_hash = UNHEX(SHA2(refresh_token, 256)), refresh_token = NULL
+--  WHERE token_hash IS NULL AND refresh_token IS NOT NULL;
+
+-- 3) 백필 완료 확인 후: 평문 컬럼의 유니크 인덱스 제거 (인덱스 이름은 SHOW INDEX FROM refresh_token 으로 확인)
+-- ALTER TABLE refresh_token DROP INDEX <평문 refresh_token 유니크 인덱스 이름>;
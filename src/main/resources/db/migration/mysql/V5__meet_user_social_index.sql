@@ -0,0 +1,5 @@
+-- 소셜 로그인 조회/중복 방지용 (social_type, sns_id) 복합 유니크 인덱스 (MySQL)
+-- 적용 전에 중복 행이 없는지 확인:
+--   SELECT social_type, sns_id, COUNT(*) FROM meet_user
+--    WHERE sns_id IS NOT NULL GROUP BY social_type, sns_id HAVING COUNT(*) > 1;
+ALTER TABLE meet_user ADD CONSTRAINT uk_meet_user_social UNIQUE (social_type, sns_id);
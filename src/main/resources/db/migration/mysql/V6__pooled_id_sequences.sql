@@ -0,0 +1,14 @@
+-- IDENTITY -> 풀링 시퀀스(allocationSize 50) 전환 (MySQL)
+-- MySQL 은 시퀀스가 없으므로 Hibernate 가 <이름>_seq 테이블(next_val)로 시퀀스를 흉내낸다.
+-- pooled 옵티마이저는 읽어 온 값을 블록의 "끝"으로 보고 (값-49 .. 값) 범위를 할당하므로,
+-- 초기값은 최소 max(id)+allocationSize 여야 첫 블록이 기존 id 와 겹치지 않는다.
+-- (id 컬럼의 AUTO_INCREMENT 는 남아 있어도 무방: 애플리케이션이 id 를 직접 넣는다)
+CREATE TABLE meet_user_seq (next_val BIGINT);
+INSERT INTO meet_user_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM meet_user;
+
+CREATE TABLE refresh_token_seq (next_val BIGINT);
+INSERT INTO refresh_token_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM refresh_token;
+
+-- 시퀀스를 지원하는 DB(H2 등)의 경우:
+-- CREATE SEQUENCE meet_user_seq START WITH <max(id)+50> INCREMENT BY 50;
+-- CREATE SEQUENCE refresh_token_seq START WITH <max(id)+50> INCREMENT BY 50;
@@ -0,0 +1,17 @@
+-- 보안 감사 로그 (MySQL): AuditEventPublisher 가 링 버퍼에 모아 배치 INSERT 한다
+-- user_id 는 FK 를 두지 않는다 (사용자 삭제 후에도 기록 보존)
+CREATE TABLE audit_log (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    event_type  VARCHAR(40)  NOT NULL,
+    user_id     BIGINT       NULL,
+    subject     VARCHAR(200) NULL,
+    remote_addr VARCHAR(64)  NULL,
+    detail      VARCHAR(200) NULL,
+    occurred_at DATETIME(6)  NOT NULL
+);
+CREATE INDEX idx_audit_log_occurred_at ON audit_log (occurred_at);
+CREATE INDEX idx_audit_log_user_occurred_at ON audit_log (user_id, occurred_at);
+
+-- 풀링 시퀀스(allocationSize 50)용 시퀀스 테이블 (V6 와 동일한 방식)
+CREATE TABLE audit_log_seq (next_val BIGINT);
+INSERT INTO audit_log_seq (next_val) VALUES (1);
@@ -0,0 +1,2 @@
+-- 사용자 권한 (USER/ADMIN, 액세스 토큰의 rol 클레임). 관리자는 수동 지정: UPDATE meet_user SET role = 'ADMIN' WHERE id = ? (MySQL)
+ALTER TABLE meet_user ADD COLUMN role VARCHAR(20) NOT NULL DEFAULT 'USER';
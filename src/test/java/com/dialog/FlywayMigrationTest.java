@@ -0,0 +1,66 @@
+package com.dialog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * H2 마이그레이션: 빈 DB 와 마이그레이션 도입 전(ddl-auto) 로컬 DB 모두 최신 버전까지 올라가는지,
+ * 풀링 시퀀스가 기존 id 와 겹치지 않는 값에서 시작하는지 확인 (application.yml 의 spring.flyway.* 와 같은 설정)
+ */
+class FlywayMigrationTest {
+
+    @Test
+    void migratesEmptyDatabaseFromBaseline() {
+        DataSource dataSource = database();
+
+        flyway(dataSource).migrate();
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        assertThat(flyway(dataSource).info().current().getVersion().getVersion()).isEqualTo("10");
+        assertThat(jdbc.queryForObject("select next value for meet_user_seq", Long.class)).isEqualTo(50L);
+        assertThat(jdbc.queryForObject("select next value for refresh_token_seq", Long.class)).isEqualTo(50L);
+    }
+
+    @Test
+    void baselinesExistingDatabaseAndSeedsSequencesAboveExistingIds() {
+        DataSource dataSource = database();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/h2/V0__baseline.sql")).execute(dataSource);
+        jdbc.update("insert into meet_user (id, email, password, name) values (3, 'a@dialog.com', 'x', 'a')");
+        jdbc.update("insert into meet_user (id, email, password, name) values (120, 'b@dialog.com', 'x', 'b')");
+        jdbc.update("insert into refresh_token (id, refresh_token, issued_at, expires_at, revoked, user_id)"
+                + " values (7, 'legacy', current_timestamp, current_timestamp, false, 3)");
+
+        flyway(dataSource).migrate();
+
+        assertThat(flyway(dataSource).info().current().getVersion().getVersion()).isEqualTo("10");
+        // pooled 블록 (값-49 .. 값): 첫 블록이 기존 최대 id 바로 다음부터
+        assertThat(jdbc.queryForObject("select next value for meet_user_seq", Long.class)).isEqualTo(170L);
+        assertThat(jdbc.queryForObject("select next value for refresh_token_seq", Long.class)).isEqualTo(57L);
+        assertThat(jdbc.queryForObject("select role from meet_user where id = 120", String.class)).isEqualTo("USER");
+    }
+
+    private static DataSource database() {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:flyway-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static Flyway flyway(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load();
+    }
+}
@@ -0,0 +1,88 @@
+package com.dialog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.dialog.exception.AuthException;
+import com.dialog.exception.PasswordHashingBusyException;
+import com.dialog.exception.RefreshTokenExpiredException;
+import com.dialog.exception.RefreshTokenMissingException;
+import com.dialog.exception.RefreshTokenReusedException;
+import com.dialog.exception.RefreshTokenRevokedException;
+import com.dialog.exception.RequestThrottledException;
+import com.dialog.exception.SocialAccountConflictException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 전역 예외 핸들러: 인증 예외 타입별 상태 코드/본문/Retry-After, 일반 예외 400, 해싱 포화 503
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    static Stream<Arguments> authExceptions() {
+        return Stream.of(
+                Arguments.of(RefreshTokenMissingException.INSTANCE, HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_MISSING"),
+                Arguments.of(RefreshTokenRevokedException.INSTANCE, HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_REVOKED"),
+                Arguments.of(RefreshTokenExpiredException.INSTANCE, HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_EXPIRED"),
+                Arguments.of(RefreshTokenReusedException.INSTANCE, HttpStatus.UNAUTHORIZED, "REFRESH_TOKEN_REUSED"),
+                Arguments.of(RequestThrottledException.INSTANCE, HttpStatus.TOO_MANY_REQUESTS, "REQUEST_THROTTLED"),
+                Arguments.of(SocialAccountConflictException.INSTANCE, HttpStatus.CONFLICT, "SOCIAL_ACCOUNT_CONFLICT"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("authExceptions")
+    void authExceptionMapsToStatusAndCode(AuthException ex, HttpStatus status, String code) throws Exception {
+        ResponseEntity<byte[]> response = handler.handleAuthException(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(status);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        Map<?, ?> body = objectMapper.readValue(response.getBody(), Map.class);
+        assertThat(body.get("code")).isEqualTo(code);
+        assertThat(body.get("message")).isEqualTo(ex.getMessage());
+        assertThat(ex.getStackTrace()).isEmpty(); // 스택 트레이스를 만들지 않는다
+    }
+
+    @Test
+    void authResponseIsBuiltOncePerType() {
+        assertThat(handler.handleAuthException(RefreshTokenRevokedException.INSTANCE))
+                .isSameAs(handler.handleAuthException(RefreshTokenRevokedException.INSTANCE));
+    }
+
+    @Test
+    void throttledResponseCarriesRetryAfter() {
+        ResponseEntity<byte[]> response = handler.handleAuthException(RequestThrottledException.INSTANCE);
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(handler.handleAuthException(RefreshTokenExpiredException.INSTANCE).getHeaders()
+                .getFirst(HttpHeaders.RETRY_AFTER)).isNull();
+    }
+
+    @Test
+    void illegalStateMapsToBadRequestWithMessage() {
+        ResponseEntity<?> response = handler.handleCustomException(new IllegalStateException("이미 가입된 이메일입니다."));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isEqualTo(Map.of("message", "이미 가입된 이메일입니다."));
+    }
+
+    @Test
+    void hashingBusyMapsToServiceUnavailable() {
+        ResponseEntity<?> response = handler.handlePasswordHashingBusy(new PasswordHashingBusyException());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+}
@@ -0,0 +1,44 @@
+package com.dialog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * MySQL 마이그레이션 확인: db/migration/mysql 을 실제 MySQL 에 적용하고 ddl-auto=validate 로 엔티티와 맞는지 확인
+ * - DIALOG_TEST_MYSQL_URL 이 있을 때만 실행 (예: jdbc:mysql://localhost:3306/dialog_migration_test, 비어 있는 전용 스키마)
+ *   DIALOG_TEST_MYSQL_URL=... DIALOG_TEST_MYSQL_PASSWORD=... ./gradlew test --tests '*MySqlMigrationTest'
+ * - 컨텍스트가 뜨면 Flyway 적용과 스키마 검증이 모두 통과한 것이다
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DIALOG_TEST_MYSQL_URL", matches = ".+")
+class MySqlMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("DIALOG_TEST_MYSQL_URL"));
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.datasource.username", () -> env("DIALOG_TEST_MYSQL_USERNAME", "root"));
+        registry.add("spring.datasource.password", () -> env("DIALOG_TEST_MYSQL_PASSWORD", ""));
+    }
+
+    @Test
+    void appliesAllMigrationsAndValidatesEntities() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("10");
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
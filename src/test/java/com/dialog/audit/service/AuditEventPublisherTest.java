@@ -0,0 +1,219 @@
+package com.dialog.audit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.dialog.audit.domain.AuditEvent;
+import com.dialog.audit.domain.AuditEventType;
+import com.dialog.audit.sink.AuditEventSink;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 감사 이벤트 파이프라인: 커밋 후 발행, 종료 시 남은 이벤트 기록, 버퍼 가득 참/기록 실패 집계
+ * - flush-interval 을 길게 두어 기록기가 쉬는 동안 발행된 이벤트를 stop 이 깨워 비우는지 확인한다
+ */
+class AuditEventPublisherTest {
+
+    private MeterRegistry registry;
+    private RecordingSink sink;
+    private AuditEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        sink = new RecordingSink();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null && publisher.isRunning()) {
+            publisher.stop();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void stopWritesEverythingPublishedBeforeItAndClosesSinkLast() {
+        publisher = publisher(2048, "drop", 500, Duration.ofSeconds(30));
+        publisher.start();
+        for (long i = 0; i < 1200; i++) {
+            publisher.publish(AuditEventType.LOGIN_SUCCESS, i, "user" + i + "@dialog.com", null);
+        }
+
+        publisher.stop();
+
+        assertThat(sink.written).extracting(AuditEvent::userId).hasSize(1200).doesNotHaveDuplicates();
+        assertThat(sink.closed.get()).isEqualTo(1);
+        assertThat(sink.writeAfterClose.get()).isFalse();
+        assertThat(counter("dialog.audit.events")).isEqualTo(1200);
+        assertThat(registry.get("dialog.audit.lag").timer().count()).isEqualTo(1200);
+    }
+
+    @Test
+    void publishRacingWithStopIsEitherWrittenOrCountedAsStopped() throws Exception {
+        publisher = publisher(1 << 16, "drop", 500, Duration.ofMillis(1));
+        publisher.start();
+        int producers = 4;
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean stopProducing = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            for (int p = 0; p < producers; p++) {
+                executor.submit(() -> {
+                    while (!stopProducing.get()) {
+                        publisher.publish(AuditEventType.TOKEN_ISSUED, (long) attempts.incrementAndGet(), null, null);
+                    }
+                });
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+            publisher.stop();
+            stopProducing.set(true);
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double dropped = counter("dialog.audit.dropped", "reason", "stopped")
+                + counter("dialog.audit.dropped", "reason", "full");
+        assertThat(sink.written.size()).isEqualTo((int) counter("dialog.audit.events"));
+        assertThat(sink.written.size() + dropped).isEqualTo(attempts.get());
+        assertThat(sink.writeAfterClose.get()).isFalse();
+    }
+
+    @Test
+    void publishAfterStopIsDropped() {
+        publisher = publisher(16, "drop", 500, Duration.ofMillis(10));
+        publisher.start();
+        publisher.stop();
+
+        publisher.publish(AuditEventType.LOGIN_FAILURE, null, "late@dialog.com", null);
+
+        assertThat(sink.written).isEmpty();
+        assertThat(counter("dialog.audit.dropped", "reason", "stopped")).isEqualTo(1);
+    }
+
+    @Test
+    void eventInTransactionIsBufferedOnlyAfterCommit() {
+        publisher = publisher(16, "drop", 500, Duration.ofSeconds(30));
+        publisher.start();
+
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publish(AuditEventType.TOKEN_ROTATED, 1L, null, null);
+        assertThat(counter("dialog.audit.events")).isZero();
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publish(AuditEventType.TOKEN_ROTATED, 2L, null, null); // 롤백: afterCommit 없이 종료
+        TransactionSynchronizationManager.clearSynchronization();
+
+        publisher.stop();
+        assertThat(sink.written).extracting(AuditEvent::userId).containsExactly(1L);
+    }
+
+    @Test
+    void fullBufferDropsWithDropPolicy() throws Exception {
+        publisher = publisher(2, "drop", 1, Duration.ofMillis(1));
+        sink.blockFirstWrite();
+        publisher.start();
+
+        publisher.publish(AuditEventType.LOGIN_SUCCESS, 0L, null, null);
+        assertThat(sink.writing.await(5, TimeUnit.SECONDS)).isTrue(); // 기록기가 첫 배치에 묶여 있는 동안
+        for (long i = 1; i <= 3; i++) {
+            publisher.publish(AuditEventType.LOGIN_SUCCESS, i, null, null);
+        }
+        assertThat(counter("dialog.audit.dropped", "reason", "full")).isEqualTo(1);
+
+        sink.release.countDown();
+        publisher.stop();
+        assertThat(sink.written).extracting(AuditEvent::userId).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    void failedWriteIsRetriedOnceThenDropped() {
+        publisher = publisher(16, "drop", 500, Duration.ofSeconds(30));
+        sink.failures.set(1);
+        publisher.start();
+        publisher.publish(AuditEventType.LOGIN_SUCCESS, 1L, null, null);
+        publisher.stop();
+        assertThat(sink.written).extracting(AuditEvent::userId).containsExactly(1L);
+
+        registry = new SimpleMeterRegistry();
+        sink = new RecordingSink();
+        sink.failures.set(Integer.MAX_VALUE);
+        publisher = publisher(16, "drop", 500, Duration.ofSeconds(30));
+        publisher.start();
+        publisher.publish(AuditEventType.LOGIN_SUCCESS, 2L, null, null);
+        publisher.stop();
+        assertThat(sink.written).isEmpty();
+        assertThat(counter("dialog.audit.dropped", "reason", "write-failed")).isEqualTo(1);
+        assertThat(registry.get("dialog.audit.write").tag("outcome", "error").timer().count()).isEqualTo(2);
+    }
+
+    private AuditEventPublisher publisher(int bufferSize, String overflow, int batchSize, Duration flushInterval) {
+        return new AuditEventPublisher(sink, registry, true, bufferSize, overflow, Duration.ofMillis(50), batchSize,
+                flushInterval, Duration.ofSeconds(10));
+    }
+
+    private double counter(String name, String... tags) {
+        return registry.get(name).tags(tags).counter().count();
+    }
+
+    // 기록된 이벤트를 복사해 두는 싱크 (첫 기록을 붙잡거나 지정 횟수만큼 실패시킬 수 있다)
+    private static final class RecordingSink implements AuditEventSink {
+
+        final List<AuditEvent> written = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger closed = new AtomicInteger();
+        final AtomicBoolean writeAfterClose = new AtomicBoolean();
+        final AtomicInteger failures = new AtomicInteger();
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean blockFirst;
+
+        void blockFirstWrite() {
+            blockFirst = true;
+        }
+
+        @Override
+        public void write(List<AuditEvent> batch) throws Exception {
+            if (closed.get() > 0) {
+                writeAfterClose.set(true);
+            }
+            if (blockFirst) {
+                blockFirst = false;
+                writing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("sink down");
+            }
+            written.addAll(batch);
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.dialog.audit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.dialog.audit.domain.AuditEvent;
+import com.dialog.audit.domain.AuditEventType;
+
+/**
+ * 감사 이벤트 링 버퍼: 용량 올림, 가득 참, 슬롯 재사용 순서, 다중 생산자 유실/중복 없음
+ */
+class AuditEventRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new AuditEventRingBuffer(1).capacity()).isEqualTo(2);
+        assertThat(new AuditEventRingBuffer(5).capacity()).isEqualTo(8);
+        assertThat(new AuditEventRingBuffer(8).capacity()).isEqualTo(8);
+        assertThat(new AuditEventRingBuffer(65536).capacity()).isEqualTo(65536);
+    }
+
+    @Test
+    void offerFailsWhenFullAndSucceedsAfterDrain() {
+        AuditEventRingBuffer buffer = new AuditEventRingBuffer(4);
+        for (long i = 0; i < 4; i++) {
+            assertThat(buffer.offer(event(i))).isTrue();
+        }
+        assertThat(buffer.offer(event(4))).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<AuditEvent> batch = new ArrayList<>();
+        assertThat(buffer.drainTo(batch, 3)).isEqualTo(3);
+        assertThat(batch).extracting(AuditEvent::userId).containsExactly(0L, 1L, 2L);
+
+        assertThat(buffer.offer(event(4))).isTrue();
+        assertThat(buffer.offer(event(5))).isTrue();
+        assertThat(buffer.offer(event(6))).isTrue();
+        assertThat(buffer.offer(event(7))).isFalse();
+    }
+
+    @Test
+    void drainKeepsPublishOrderAcrossWrapAround() {
+        AuditEventRingBuffer buffer = new AuditEventRingBuffer(4);
+        List<Long> drained = new ArrayList<>();
+        List<AuditEvent> batch = new ArrayList<>();
+        for (long i = 0; i < 20; i++) {
+            assertThat(buffer.offer(event(i))).isTrue();
+            if (i % 3 == 2) {
+                buffer.drainTo(batch, 4);
+                batch.forEach(event -> drained.add(event.userId()));
+                batch.clear();
+            }
+        }
+        buffer.drainTo(batch, 4);
+        batch.forEach(event -> drained.add(event.userId()));
+
+        assertThat(drained).hasSize(20).isSorted();
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.drainTo(new ArrayList<>(), 4)).isZero();
+    }
+
+    @Test
+    void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+        int producers = 8;
+        int perProducer = 20_000;
+        AuditEventRingBuffer buffer = new AuditEventRingBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int p = 0; p < producers; p++) {
+                long base = (long) p * perProducer;
+                executor.submit(() -> {
+                    start.await();
+                    for (long i = base; i < base + perProducer; i++) {
+                        while (!buffer.offer(event(i))) {
+                            Thread.onSpinWait(); // 가득 차면 소비자가 비울 때까지 재시도
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            Set<Long> seen = new HashSet<>();
+            List<AuditEvent> batch = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+                buffer.drainTo(batch, 256);
+                for (AuditEvent event : batch) {
+                    assertThat(seen.add(event.userId())).as("중복 %d", event.userId()).isTrue();
+                }
+                batch.clear();
+            }
+            assertThat(seen).hasSize(producers * perProducer);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AuditEvent event(long userId) {
+        return new AuditEvent(AuditEventType.LOGIN_SUCCESS, userId, null, null, null, LocalDateTime.now(),
+                System.nanoTime());
+    }
+}
@@ -0,0 +1,86 @@
+package com.dialog.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 커넥션 동시성 제한: close 시 허가 한 번만 반납, 실패 시 즉시 반납, 대기 한도 초과,
+ * 지연 프록시 안쪽에 두면 물리 커넥션을 꺼내지 않는 트랜잭션은 허가를 잡지 않음
+ */
+class ConcurrencyLimitedDataSourceTest {
+
+    private final DataSource pool = mock(DataSource.class);
+
+    @Test
+    void permitIsReturnedOnceOnClose() throws SQLException {
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(pool, 2, Duration.ofMillis(100));
+
+        Connection connection = limited.getConnection();
+        assertThat(limited.availablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close(); // 중복 close 가 허가를 늘리지 않는다
+
+        assertThat(limited.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void permitIsReturnedWhenPoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(pool, 1, Duration.ofMillis(100));
+
+        assertThatThrownBy(limited::getConnection).isInstanceOf(SQLException.class);
+
+        assertThat(limited.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void waitingBeyondTimeoutFailsFast() throws SQLException {
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(pool, 1, Duration.ofMillis(50));
+        Connection held = limited.getConnection();
+
+        assertThatThrownBy(limited::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        verify(pool, times(1)).getConnection();
+
+        held.close();
+        limited.getConnection().close();
+    }
+
+    @Test
+    void lazyProxyAboveTheLimiterTakesNoPermitUntilStatementRuns() throws SQLException {
+        Connection physical = mock(Connection.class);
+        when(physical.getAutoCommit()).thenReturn(true);
+        when(physical.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_READ_COMMITTED);
+        when(pool.getConnection()).thenReturn(physical);
+        ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(pool, 1, Duration.ofMillis(50));
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(limited); // 기본값 확인용 1회 조회 후 반납
+        verify(pool, times(1)).getConnection();
+
+        Connection unused = proxy.getConnection(); // 캐시 적중 등으로 SQL 을 실행하지 않는 트랜잭션
+        unused.setAutoCommit(false);
+        assertThat(limited.availablePermits()).isEqualTo(1);
+        unused.close();
+
+        verify(pool, times(1)).getConnection();
+        verify(physical, never()).prepareStatement(anyString());
+        assertThat(limited.availablePermits()).isEqualTo(1);
+    }
+}
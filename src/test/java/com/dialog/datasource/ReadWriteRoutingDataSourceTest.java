@@ -0,0 +1,153 @@
+package com.dialog.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 읽기/쓰기 분리: 서로 다른 H2 인메모리 DB 두 개를 primary/replica 로 두고 실제로 어느 쪽에서 읽었는지 확인
+ * - 각 DB 의 node 테이블에 자기 이름을 넣어 두고, replica 에는 아직 복제되지 않은 행(token = 'fresh')이 없다
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private MeterRegistry registry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        DataSource primary = database("primary-" + suffix, "primary", List.of("stale", "fresh"));
+        DataSource replica = database("replica-" + suffix, "replica", List.of("stale"));
+        registry = new SimpleMeterRegistry();
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, registry);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing); // ReadWriteRoutingConfig 와 같은 구성
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransactionReadsReplica() {
+        assertThat(readOnlyTransaction.execute(status -> node())).isEqualTo("replica");
+        assertThat(registry.get("dialog.datasource.route").tag("target", "replica").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void writeTransactionAndNonTransactionalReadsUsePrimary() {
+        assertThat(writeTransaction.execute(status -> node())).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void onPrimaryOverridesReadOnlyTransaction() {
+        assertThat(ReadWriteRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(status -> node())))
+                .isEqualTo("primary");
+        assertThat(readOnlyTransaction.execute(status -> node())).isEqualTo("replica"); // 범위를 벗어나면 원래대로
+    }
+
+    @Test
+    void guardReadsRecentlyWrittenKeyFromPrimaryUntilMaxLagPasses() throws InterruptedException {
+        ReplicaReadGuard guard = new ReplicaReadGuard(true, Duration.ofMillis(200), 1000, Duration.ofSeconds(30));
+        guard.markWritten("fresh");
+
+        assertThat(guard.read("token", "fresh", () -> readOnlyTransaction.execute(status -> node())))
+                .isEqualTo("primary");
+        assertThat(guard.read("token", "other", () -> readOnlyTransaction.execute(status -> node())))
+                .isEqualTo("replica");
+
+        TimeUnit.MILLISECONDS.sleep(300);
+        assertThat(guard.read("token", "fresh", () -> readOnlyTransaction.execute(status -> node())))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    void guardReadsWholeScopeFromPrimaryAfterBulkWrite() {
+        ReplicaReadGuard guard = new ReplicaReadGuard(true, Duration.ofSeconds(2), 1000, Duration.ofSeconds(30));
+        guard.markScopeWritten("token");
+
+        assertThat(guard.read("token", "any", () -> readOnlyTransaction.execute(status -> node())))
+                .isEqualTo("primary");
+        assertThat(guard.read("user", "any", () -> readOnlyTransaction.execute(status -> node())))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    void replicaMissIsConfirmedOnPrimary() {
+        ReplicaReadGuard guard = new ReplicaReadGuard(true, Duration.ofSeconds(2), 1000, Duration.ofSeconds(30));
+
+        // 다른 노드가 방금 만들어 아직 replica 에 없는 행
+        assertThat(guard.readConfirmingMiss("token", "fresh", () -> findToken("fresh"))).contains("fresh");
+        assertThat(guard.readConfirmingMiss("token", "stale", () -> findToken("stale"))).contains("stale");
+    }
+
+    @Test
+    void confirmedMissIsNotRecheckedOnPrimaryUntilWritten() {
+        ReplicaReadGuard guard = new ReplicaReadGuard(true, Duration.ofSeconds(2), 1000, Duration.ofSeconds(30));
+        AtomicInteger primaryReads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(guard.readConfirmingMiss("token", "garbage", () -> {
+                Optional<String> token = findToken("garbage");
+                if ("primary".equals(readOnlyTransaction.execute(status -> node()))) {
+                    primaryReads.incrementAndGet();
+                }
+                return token;
+            })).isEmpty();
+        }
+        assertThat(primaryReads.get()).isEqualTo(1); // 첫 번째만 primary 재확인
+
+        guard.markWritten("garbage"); // 이 노드가 같은 키를 쓰면 "없음" 기록은 지워지고 max-lag 동안 primary 에서 읽는다
+        guard.readConfirmingMiss("token", "garbage", () -> {
+            if ("primary".equals(readOnlyTransaction.execute(status -> node()))) {
+                primaryReads.incrementAndGet();
+            }
+            return Optional.empty();
+        });
+        assertThat(primaryReads.get()).isEqualTo(2);
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private Optional<String> findToken(String token) {
+        return readOnlyTransaction.execute(status -> jdbcTemplate
+                .queryForList("select token from issued where token = ?", String.class, token)
+                .stream()
+                .findFirst());
+    }
+
+    private static DataSource database(String name, String node, List<String> tokens) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table node (name varchar(20))");
+        jdbc.update("insert into node (name) values (?)", node);
+        jdbc.execute("create table issued (token varchar(20))");
+        tokens.forEach(token -> jdbc.update("insert into issued (token) values (?)", token));
+        return dataSource;
+    }
+}
@@ -0,0 +1,136 @@
+package com.dialog.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.token.domain.TokenDigest;
+import com.dialog.token.repository.RefreshTokenRepository;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+import com.dialog.user.service.MeetUserLookupCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기/쓰기 분리 통합 확인: 실제 리포지토리/서비스 호출이 어느 DB 에서 읽혔는지 확인
+ * - 서로 다른 H2 인메모리 DB 두 개를 primary/replica 로 띄우고 같은 id 의 행을 서로 다른 값으로 넣어 둔다
+ *   (primary 는 애플리케이션 Flyway 가, replica 는 컨텍스트 시작 전에 여기서 같은 마이그레이션으로 만든다)
+ */
+@SpringBootTest
+class ReplicaRoutingIntegrationTest {
+
+    private static final String SUFFIX = UUID.randomUUID().toString();
+    private static final String PRIMARY_URL = "jdbc:h2:mem:rw-primary-" + SUFFIX + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:rw-replica-" + SUFFIX + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private static final long USER_ID = 1001L;
+    private static final String EMAIL = "node@dialog.com";
+    private static final TokenDigest DIGEST = TokenDigest.of("node-token");
+
+    @Autowired
+    private MeetUserRepository meetUserRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MeetUserLookupCache meetUserLookupCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void databases(DynamicPropertyRegistry registry) {
+        Flyway.configure()
+                .dataSource(database(REPLICA_URL))
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+        registry.add("spring.datasource.url", () -> PRIMARY_URL);
+        registry.add("dialog.datasource.replica.enabled", () -> "true");
+        registry.add("dialog.datasource.replica.url", () -> REPLICA_URL);
+        registry.add("dialog.datasource.replica.driver-class-name", () -> "org.h2.Driver");
+        registry.add("dialog.datasource.replica.username", () -> "sa");
+        registry.add("dialog.datasource.replica.password", () -> "");
+    }
+
+    // 각 DB 에 같은 id 로 자기 이름이 들어간 사용자/토큰 행 (primary 에서는 에포크가 올라가고 토큰이 폐기됨)
+    @BeforeEach
+    void seed() {
+        seed(PRIMARY_URL, "primary", 1L, true);
+        seed(REPLICA_URL, "replica", 0L, false); // 모든 기기 로그아웃/폐기가 아직 복제되지 않은 상태
+    }
+
+    @Test
+    void repositoryReadOutsideTransactionIsServedByReplica() {
+        double before = replicaRoutes();
+
+        assertThat(meetUserRepository.findByEmail(EMAIL)).map(MeetUser::getName).contains("replica");
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(DIGEST.bytes())).contains(false);
+
+        assertThat(replicaRoutes()).isGreaterThan(before);
+    }
+
+    @Test
+    void sameReadInsideWriteTransactionIsServedByPrimary() {
+        TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+
+        assertThat(writeTransaction.execute(status -> meetUserRepository.findByEmail(EMAIL)))
+                .map(MeetUser::getName).contains("primary");
+        assertThat(writeTransaction.execute(status -> refreshTokenRepository.findRevokedByTokenHash(DIGEST.bytes())))
+                .contains(true);
+    }
+
+    @Test
+    void passwordAndEpochReadsStayOnPrimary() {
+        assertThat(meetUserRepository.findPasswordById(USER_ID)).contains("primary-hash");
+        assertThat(meetUserRepository.findTokenVersionById(USER_ID)).contains(1L);
+    }
+
+    @Test
+    void lookupCacheLoadsFromReplicaUntilKeyIsWritten() {
+        assertThat(meetUserLookupCache.findByEmail(EMAIL)).map(MeetUser::getName).contains("replica");
+
+        meetUserLookupCache.evictEmail(EMAIL); // 방금 수정한 사용자: 복제 지연 동안 primary 에서 읽는다
+
+        assertThat(meetUserLookupCache.findByEmail(EMAIL)).map(MeetUser::getName).contains("primary");
+    }
+
+    private double replicaRoutes() {
+        return meterRegistry.get("dialog.datasource.route").tag("target", "replica").counter().count();
+    }
+
+    private static void seed(String url, String node, long tokenVersion, boolean revoked) {
+        JdbcTemplate jdbc = new JdbcTemplate(database(url));
+        jdbc.update("delete from refresh_token where id = 2001");
+        jdbc.update("delete from meet_user where id = ?", USER_ID);
+        jdbc.update("insert into meet_user (id, email, password, name, token_version) values (?, ?, ?, ?, ?)",
+                USER_ID, EMAIL, node + "-hash", node, tokenVersion);
+        jdbc.update("insert into refresh_token (id, token_hash, issued_at, expires_at, revoked, user_id)"
+                + " values (2001, ?, ?, ?, ?, ?)", DIGEST.bytes(), LocalDateTime.now(),
+                LocalDateTime.now().plusDays(1), revoked, USER_ID);
+    }
+
+    private static DataSource database(String url) {
+        return new DriverManagerDataSource(url, "sa", "");
+    }
+}
@@ -0,0 +1,112 @@
+package com.dialog.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SQL 정규화, 형태 id 태그, 요청 단위 N+1 감지
+ */
+class SqlStatementRecorderTest {
+
+    private static final String SELECT_BY_ID = "select m1_0.id,m1_0.email from meet_user m1_0 where m1_0.id=?";
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void normalizeReplacesLiteralsAndCollapsesLists() {
+        assertThat(SqlStatementRecorder.normalize("select * from meet_user where email = 'o''neil@dialog.com' and id = 42"))
+                .isEqualTo("select * from meet_user where email = ? and id = ?");
+        assertThat(SqlStatementRecorder.normalize("delete from refresh_token where id in (?, ?,?)"))
+                .isEqualTo("delete from refresh_token where id in (?)");
+        assertThat(SqlStatementRecorder.normalize("insert into audit_log (id) values (?), (?), (?)"))
+                .isEqualTo("insert into audit_log (id) values (?)");
+        assertThat(SqlStatementRecorder.normalize("select\n  r1_0.id\tfrom   refresh_token r1_0"))
+                .isEqualTo("select r1_0.id from refresh_token r1_0"); // 별칭 안의 숫자는 그대로
+    }
+
+    @Test
+    void shapeIdIsShortStableHex() {
+        String id = SqlStatementRecorder.shapeId(SELECT_BY_ID);
+
+        assertThat(id).hasSize(12).matches("[0-9a-f]{12}");
+        assertThat(SqlStatementRecorder.shapeId(SELECT_BY_ID)).isEqualTo(id);
+        assertThat(SqlStatementRecorder.shapeId(SELECT_BY_ID + " for update")).isNotEqualTo(id);
+    }
+
+    @Test
+    void statementTimerIsTaggedWithShapeIdNotSql() {
+        SqlStatementRecorder recorder = recorder(5, 500);
+
+        recorder.record("select * from meet_user where id = 1", 1_000L, false);
+        recorder.record("select * from meet_user where id = 2", 1_000L, false);
+
+        Timer timer = registry.get("dialog.sql.statement").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.getId().getTag("shape"))
+                .isEqualTo(SqlStatementRecorder.shapeId("select * from meet_user where id = ?"));
+        assertThat(timer.getId().getTag("operation")).isEqualTo("select");
+        assertThat(timer.getId().getTag("sql")).isNull();
+    }
+
+    @Test
+    void repeatedSelectInOneRequestIsReportedAsNPlusOne() {
+        SqlStatementRecorder recorder = recorder(3, 500);
+
+        recorder.beginRequest();
+        for (int i = 0; i < 3; i++) {
+            recorder.record(SELECT_BY_ID, 1_000L, false);
+        }
+        recorder.record("insert into audit_log (id) values (?)", 1_000L, false);
+        recorder.endRequest("GET /api/users");
+
+        assertThat(registry.get("dialog.sql.repeated").tag("shape", SqlStatementRecorder.shapeId(SELECT_BY_ID))
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get("dialog.sql.request.statements").summary().totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    void selectsBelowThresholdOrOutsideRequestAreNotReported() {
+        SqlStatementRecorder recorder = recorder(3, 500);
+
+        recorder.beginRequest();
+        recorder.record(SELECT_BY_ID, 1_000L, false);
+        recorder.record(SELECT_BY_ID, 1_000L, false);
+        recorder.endRequest("GET /api/users");
+        for (int i = 0; i < 5; i++) {
+            recorder.record(SELECT_BY_ID, 1_000L, false); // 요청 밖 (스케줄러 등)
+        }
+
+        assertThat(registry.find("dialog.sql.repeated").counter()).isNull();
+    }
+
+    @Test
+    void shapesBeyondLimitAreGroupedAsOther() {
+        SqlStatementRecorder recorder = recorder(5, 1);
+
+        recorder.record("select * from meet_user", 1_000L, false);
+        recorder.record("select * from refresh_token", 1_000L, false);
+
+        assertThat(registry.get("dialog.sql.statement").tag("shape", "other").timer().count()).isEqualTo(1);
+    }
+
+    private SqlStatementRecorder recorder(int nPlusOneThreshold, int maxShapes) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        return new SqlStatementRecorder(beans.getBeanProvider(MeterRegistry.class), Duration.ofSeconds(10), 0.0,
+                nPlusOneThreshold, maxShapes, 300);
+    }
+}
@@ -0,0 +1,116 @@
+package com.dialog.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.dialog.exception.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 비밀번호 해싱 파사드: 대기 큐가 가득 차면 즉시 거절(503), 대량 해싱은 거절 대신 호출 스레드에서 처리,
+ * 없는 계정용 비교도 실제 BCrypt 비교를 한 번 치르고 항상 불일치
+ */
+class AsyncPasswordHasherTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final CostPinnedBCryptPasswordEncoder encoder = new CostPinnedBCryptPasswordEncoder(4);
+    private final AsyncPasswordHasher hasher = new AsyncPasswordHasher(encoder, registry, 1, 4);
+
+    @AfterEach
+    void tearDown() {
+        hasher.destroy();
+    }
+
+    @Test
+    void matchesNothingRunsRealComparisonAndNeverMatches() {
+        assertThat(hasher.matchesNothing("password123").join()).isFalse();
+        assertThat(hasher.matchesNothing("").join()).isFalse();
+
+        assertThat(registry.get("dialog.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncPasswordHasher blocking = new AsyncPasswordHasher(blockingEncoder("a", started, release), registry, 1, 1);
+        try {
+            CompletableFuture<String> running = blocking.encode("a");
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = blocking.encode("b");
+
+            assertThatThrownBy(() -> blocking.encode("c")).isInstanceOf(PasswordHashingBusyException.class);
+            assertThat(registry.get("dialog.password.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.join()).isEqualTo("hash:a");
+            assertThat(queued.join()).isEqualTo("hash:b");
+        } finally {
+            release.countDown();
+            blocking.destroy();
+        }
+    }
+
+    @Test
+    void encodeAllHashesOnCallerThreadInsteadOfRejecting() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncPasswordHasher blocking = new AsyncPasswordHasher(blockingEncoder("login", started, release), registry, 1, 1);
+        try {
+            CompletableFuture<String> login = blocking.encode("login"); // 로그인 요청이 유일한 해싱 스레드를 차지
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = blocking.encode("queued");
+
+            assertThat(blocking.encodeAll(List.of("x", "y", "z"))).containsExactly("hash:x", "hash:y", "hash:z");
+
+            release.countDown();
+            assertThat(login.join()).isEqualTo("hash:login");
+            assertThat(queued.join()).isEqualTo("hash:queued");
+        } finally {
+            release.countDown();
+            blocking.destroy();
+        }
+    }
+
+    @Test
+    void matchesAgreesWithEncode() {
+        String hash = hasher.encode("password123").join();
+
+        assertThat(hasher.matches("password123", hash).join()).isTrue();
+        assertThat(hasher.matches("password124", hash).join()).isFalse();
+    }
+
+    // blockOn 을 해싱할 때만 release 까지 붙잡고 있는 인코더 (해싱 스레드를 차지해 대기 큐를 채우기 위함)
+    private static PasswordEncoder blockingEncoder(String blockOn, CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if (blockOn.contentEquals(rawPassword)) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+    }
+}
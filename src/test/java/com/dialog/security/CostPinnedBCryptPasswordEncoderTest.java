@@ -0,0 +1,20 @@
+package com.dialog.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 비용 고정 BCrypt: 설정 비용보다 낮은 해시뿐 아니라 높은 해시도 재해싱 대상
+ */
+class CostPinnedBCryptPasswordEncoderTest {
+
+    @Test
+    void upgradesHashesOfAnyOtherCost() {
+        CostPinnedBCryptPasswordEncoder encoder = new CostPinnedBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new CostPinnedBCryptPasswordEncoder(4).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new CostPinnedBCryptPasswordEncoder(6).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("pw"))).isFalse();
+    }
+}
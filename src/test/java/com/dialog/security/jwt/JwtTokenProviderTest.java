@@ -0,0 +1,103 @@
+package com.dialog.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dialog.user.domain.MeetUserSummary;
+import com.dialog.user.domain.UserRole;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 액세스 토큰: 발급 클레임, 서명 검증, Claims 캐시 항목이 토큰 exp 이후에는 쓰이지 않음
+ * - 에포크가 바뀌면 캐시된 토큰도 거부
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-hs256-signing-0123456789";
+
+    private final TokenEpochCache tokenEpochCache = mock(TokenEpochCache.class);
+
+    @BeforeEach
+    void setUp() {
+        when(tokenEpochCache.currentEpoch(1L)).thenReturn(0L);
+    }
+
+    @Test
+    void issuedTokenCarriesUserIdEpochAndRole() {
+        JwtTokenProvider provider = provider(Duration.ofHours(1));
+
+        Claims claims = provider.parseClaims(provider.createAccessToken(user(UserRole.USER)));
+
+        assertThat(claims.getSubject()).isEqualTo("user@dialog.com");
+        assertThat(claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class)).isEqualTo(1L);
+        assertThat(claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Long.class)).isZero();
+        assertThat(claims.get(JwtTokenProvider.CLAIM_ROLE, String.class)).isEqualTo("USER");
+    }
+
+    @Test
+    void cachedClaimsAreReturnedForSameToken() {
+        JwtTokenProvider provider = provider(Duration.ofHours(1));
+        String token = provider.createAccessToken(user(UserRole.USER));
+
+        assertThat(provider.parseClaims(token)).isSameAs(provider.parseClaims(token));
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String foreign = new JwtTokenProvider(tokenEpochCache, SECRET.replace('0', 'x'), Duration.ofHours(1), 100)
+                .createAccessToken(user(UserRole.USER));
+
+        assertThat(provider(Duration.ofHours(1)).validateToken(foreign)).isFalse();
+    }
+
+    @Test
+    void cachedClaimsDoNotOutliveTokenExpiry() throws InterruptedException {
+        JwtTokenProvider provider = provider(Duration.ofSeconds(1));
+        String token = provider.createAccessToken(user(UserRole.USER));
+        assertThat(provider.validateToken(token)).isTrue(); // Claims 캐시에 적재
+
+        TimeUnit.MILLISECONDS.sleep(2100); // exp 는 초 단위로 잘리므로 1초 이상 여유
+
+        assertThat(provider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    void adminRoleClaimGrantsAdminAuthority() {
+        JwtTokenProvider provider = provider(Duration.ofHours(1));
+
+        assertThat(provider.getAuthentication(provider.createAccessToken(user(UserRole.ADMIN))).getAuthorities())
+                .extracting(Object::toString)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        assertThat(provider.getAuthentication(provider.createAccessToken(user(UserRole.USER))).getAuthorities())
+                .extracting(Object::toString)
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void epochBumpRejectsAlreadyCachedToken() {
+        JwtTokenProvider provider = provider(Duration.ofHours(1));
+        String token = provider.createAccessToken(user(UserRole.USER));
+        assertThat(provider.validateToken(token)).isTrue();
+
+        when(tokenEpochCache.currentEpoch(1L)).thenReturn(1L); // 모든 기기 로그아웃
+
+        assertThat(provider.validateToken(token)).isFalse();
+        assertThat(provider.validateToken(provider.createAccessToken(user(UserRole.USER)))).isTrue();
+    }
+
+    private JwtTokenProvider provider(Duration validity) {
+        return new JwtTokenProvider(tokenEpochCache, SECRET, validity, 100);
+    }
+
+    private static MeetUserSummary user(UserRole role) {
+        return new MeetUserSummary(1L, "user@dialog.com", "사용자", role);
+    }
+}
@@ -0,0 +1,51 @@
+package com.dialog.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.dialog.user.repository.MeetUserRepository;
+
+/**
+ * 토큰 에포크 캐시: 한 번 읽은 에포크는 메모리에서, 무효화 후에는 DB에서 다시 읽음
+ */
+class TokenEpochCacheTest {
+
+    private final MeetUserRepository meetUserRepository = mock(MeetUserRepository.class);
+    private final TokenEpochCache tokenEpochCache =
+            new TokenEpochCache(meetUserRepository, 100, Duration.ofMinutes(5));
+
+    @Test
+    void epochIsLoadedOnceAndServedFromMemory() {
+        when(meetUserRepository.findTokenVersionById(1L)).thenReturn(Optional.of(3L));
+
+        assertThat(tokenEpochCache.currentEpoch(1L)).isEqualTo(3L);
+        assertThat(tokenEpochCache.currentEpoch(1L)).isEqualTo(3L);
+
+        verify(meetUserRepository, times(1)).findTokenVersionById(1L);
+    }
+
+    @Test
+    void invalidateReloadsBumpedEpoch() {
+        when(meetUserRepository.findTokenVersionById(1L)).thenReturn(Optional.of(3L), Optional.of(4L));
+        tokenEpochCache.currentEpoch(1L);
+
+        tokenEpochCache.invalidate(1L);
+
+        assertThat(tokenEpochCache.currentEpoch(1L)).isEqualTo(4L);
+    }
+
+    @Test
+    void unknownUserNeverMatchesAnyTokenVersion() {
+        when(meetUserRepository.findTokenVersionById(9L)).thenReturn(Optional.empty());
+
+        assertThat(tokenEpochCache.currentEpoch(9L)).isEqualTo(-1L);
+    }
+}
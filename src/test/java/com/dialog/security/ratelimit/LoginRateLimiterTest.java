@@ -0,0 +1,66 @@
+package com.dialog.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.dialog.exception.RequestThrottledException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인/재발급 제한기: 제한별 거절 카운터(limit 태그)와 추적 키 게이지
+ */
+class LoginRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 이메일 버스트 1, IP 버스트 2, 재발급 버스트 1
+    private final LoginRateLimiter limiter = new LoginRateLimiter(1, 1, 1, 2, 1, 1, 100, meterRegistry);
+
+    @Test
+    void emailLimitIsCountedUnderItsOwnTag() {
+        limiter.checkLogin("User@Dialog.com", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.checkLogin("user@dialog.com", "10.0.0.1"))
+                .isInstanceOf(RequestThrottledException.class);
+
+        assertThat(throttled("login-per-email")).isEqualTo(1.0);
+        assertThat(throttled("login-per-ip")).isZero();
+    }
+
+    @Test
+    void ipLimitIsCheckedBeforeEmail() {
+        limiter.checkLogin("a@dialog.com", "10.0.0.1");
+        limiter.checkLogin("b@dialog.com", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.checkLogin("c@dialog.com", "10.0.0.1"))
+                .isInstanceOf(RequestThrottledException.class);
+
+        assertThat(throttled("login-per-ip")).isEqualTo(1.0);
+        assertThat(throttled("login-per-email")).isZero();
+    }
+
+    @Test
+    void refreshLimitIsCountedSeparately() {
+        limiter.checkRefresh("10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.checkRefresh("10.0.0.1"))
+                .isInstanceOf(RequestThrottledException.class);
+
+        assertThat(throttled("refresh-per-ip")).isEqualTo(1.0);
+    }
+
+    @Test
+    void trackedKeysGaugeSumsAllLimits() {
+        limiter.checkLogin("a@dialog.com", "10.0.0.1"); // 이메일 1 + IP 1
+        limiter.checkRefresh("10.0.0.2");               // 재발급 IP 1
+
+        assertThat(meterRegistry.get("dialog.rate-limit.tracked-keys").gauge().value()).isEqualTo(3.0);
+    }
+
+    private double throttled(String limit) {
+        return meterRegistry.get("dialog.rate-limit.throttled").tag("limit", limit).counter().count();
+    }
+}
@@ -0,0 +1,82 @@
+package com.dialog.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * GCRA 토큰 버킷: 버스트 한도, 키 독립성, 재충전, 동시 CAS 에서 초과 허용 없음
+ */
+class TokenBucketLimiterTest {
+
+    @Test
+    void allowsBurstThenRejects() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 3, 100);
+
+        assertThat(limiter.tryAcquire("user@dialog.com")).isTrue();
+        assertThat(limiter.tryAcquire("user@dialog.com")).isTrue();
+        assertThat(limiter.tryAcquire("user@dialog.com")).isTrue();
+        assertThat(limiter.tryAcquire("user@dialog.com")).isFalse();
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 100);
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isTrue();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isFalse();
+        assertThat(limiter.tryAcquire("10.0.0.2")).isTrue();
+        assertThat(limiter.trackedKeys()).isEqualTo(2);
+    }
+
+    @Test
+    void refillsAfterEmissionInterval() throws InterruptedException {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(60_000, 1, 100); // 1ms 마다 1개
+
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isFalse();
+        TimeUnit.MILLISECONDS.sleep(20);
+        assertThat(limiter.tryAcquire("key")).isTrue();
+    }
+
+    @Test
+    void concurrentCallersNeverExceedBurst() throws Exception {
+        int burst = 5;
+        int threads = 16;
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, burst, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < 100; attempt++) {
+                        if (limiter.tryAcquire("shared")) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(acquired.get()).isEqualTo(burst);
+    }
+}
@@ -0,0 +1,121 @@
+package com.dialog.token.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.TokenDigest;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+/**
+ * 회전 compare-and-set(revokeIfActive), 패밀리/사용자/발급 시각 기준 일괄 폐기 (H2, Flyway 마이그레이션 스키마)
+ */
+@DataJpaTest
+class RefreshTokenRepositoryTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MeetUserRepository meetUserRepository;
+
+    private MeetUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = meetUserRepository.save(MeetUser.builder()
+                .email("cas@dialog.com")
+                .password("{noop}secret")
+                .name("회전")
+                .build());
+    }
+
+    @Test
+    void revokeIfActiveSucceedsOnlyOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        save("token", "family", now.plusDays(1));
+
+        assertThat(refreshTokenRepository.revokeIfActive(hash("token"), now)).isEqualTo(1);
+        assertThat(refreshTokenRepository.revokeIfActive(hash("token"), now)).isZero();
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(hash("token"))).contains(true);
+    }
+
+    @Test
+    void revokeIfActiveRejectsExpiredToken() {
+        LocalDateTime now = LocalDateTime.now();
+        save("expired", "family", now.minusSeconds(1));
+
+        assertThat(refreshTokenRepository.revokeIfActive(hash("expired"), now)).isZero();
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(hash("expired"))).contains(false);
+    }
+
+    @Test
+    void revokeFamilyRevokesOnlyActiveTokensOfThatFamily() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(1);
+        save("first", "family", expiresAt);
+        save("second", "family", expiresAt);
+        save("other", "other-family", expiresAt);
+        refreshTokenRepository.revokeIfActive(hash("first"), LocalDateTime.now());
+
+        assertThat(refreshTokenRepository.revokeFamily("family")).isEqualTo(1);
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(hash("second"))).contains(true);
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(hash("other"))).contains(false);
+    }
+
+    @Test
+    void revokeAllByUserIdRevokesEveryActiveTokenOfThatUserInOneStatement() {
+        MeetUser other = meetUserRepository.save(MeetUser.builder()
+                .email("other@dialog.com")
+                .password("{noop}secret")
+                .name("다른 사용자")
+                .build());
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(1);
+        save("phone", "f1", expiresAt);
+        save("laptop", "f2", expiresAt);
+        save("already", "f3", expiresAt);
+        refreshTokenRepository.revokeByTokenHash(hash("already"));
+        save("others", "f4", expiresAt, other);
+
+        assertThat(refreshTokenRepository.revokeAllByUserId(user.getId())).isEqualTo(2); // 이미 폐기된 행은 건드리지 않음
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(hash("phone"))).contains(true);
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(hash("laptop"))).contains(true);
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(hash("others"))).contains(false);
+    }
+
+    @Test
+    void revokeAllIssuedBeforeRevokesOnlyOlderTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        save("old", "f1", now.plusDays(1));            // 발급: now - 6일
+        save("new", "f2", now.plusDays(7).plusHours(1)); // 발급: now + 1시간
+
+        assertThat(refreshTokenRepository.revokeAllIssuedBefore(now)).isEqualTo(1);
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(hash("old"))).contains(true);
+        assertThat(refreshTokenRepository.findRevokedByTokenHash(hash("new"))).contains(false);
+        assertThat(refreshTokenRepository.revokeAllIssuedBefore(now)).isZero();
+    }
+
+    private void save(String token, String familyId, LocalDateTime expiresAt) {
+        save(token, familyId, expiresAt, user);
+    }
+
+    private void save(String token, String familyId, LocalDateTime expiresAt, MeetUser owner) {
+        refreshTokenRepository.saveAndFlush(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .issuedAt(expiresAt.minusDays(7))
+                .expiresAt(expiresAt)
+                .familyId(familyId)
+                .user(owner)
+                .build());
+    }
+
+    private static byte[] hash(String token) {
+        return TokenDigest.of(token).bytes();
+    }
+}
@@ -0,0 +1,102 @@
+package com.dialog.token.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.dialog.exception.RefreshTokenExpiredException;
+import com.dialog.exception.RefreshTokenReusedException;
+import com.dialog.token.domain.RefreshToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 메트릭 데코레이터: 결과/예외별 outcome 태그, 예외는 그대로 전달
+ */
+class MeteredRefreshTokenServiceTest {
+
+    private final RefreshTokenService delegate = mock(RefreshTokenService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MeteredRefreshTokenService service = new MeteredRefreshTokenService(delegate, meterRegistry);
+
+    @Test
+    void successfulVerifyIsValid() {
+        RefreshToken token = token(false, LocalDateTime.now().plusDays(1));
+        when(delegate.verifyTokenValidity("token")).thenReturn(token);
+
+        assertThat(service.verifyTokenValidity("token")).isSameAs(token);
+
+        assertThat(count("verify", "valid")).isEqualTo(1);
+    }
+
+    @Test
+    void authExceptionIsTaggedByTypeAndRethrown() {
+        when(delegate.verifyTokenValidity("old")).thenThrow(RefreshTokenExpiredException.INSTANCE);
+        when(delegate.rotate("stolen")).thenThrow(RefreshTokenReusedException.INSTANCE);
+
+        assertThatThrownBy(() -> service.verifyTokenValidity("old")).isSameAs(RefreshTokenExpiredException.INSTANCE);
+        assertThatThrownBy(() -> service.rotate("stolen")).isSameAs(RefreshTokenReusedException.INSTANCE);
+
+        assertThat(count("verify", "expired")).isEqualTo(1);
+        assertThat(count("rotate", "reused")).isEqualTo(1);
+    }
+
+    @Test
+    void unexpectedExceptionIsError() {
+        when(delegate.rotate("token")).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> service.rotate("token")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(count("rotate", "error")).isEqualTo(1);
+    }
+
+    @Test
+    void findIsTaggedByTokenState() {
+        when(delegate.findByToken("revoked")).thenReturn(Optional.of(token(true, LocalDateTime.now().plusDays(1))));
+        when(delegate.findByToken("expired")).thenReturn(Optional.of(token(false, LocalDateTime.now().minusDays(1))));
+        when(delegate.findByToken("unknown")).thenReturn(Optional.empty());
+
+        service.findByToken("revoked");
+        service.findByToken("expired");
+        service.findByToken("unknown");
+
+        assertThat(count("find", "revoked")).isEqualTo(1);
+        assertThat(count("find", "expired")).isEqualTo(1);
+        assertThat(count("find", "missing")).isEqualTo(1);
+    }
+
+    @Test
+    void revokeOutcomeDependsOnAffectedRows() {
+        when(delegate.revokeToken("live")).thenReturn(1);
+        when(delegate.revokeToken("gone")).thenReturn(0);
+
+        service.revokeToken("live");
+        service.revokeToken("gone");
+        service.revokeToken("gone");
+
+        assertThat(count("revoke", "revoked")).isEqualTo(1);
+        assertThat(count("revoke", "missing")).isEqualTo(2);
+    }
+
+    private long count(String operation, String outcome) {
+        return meterRegistry.get("dialog.token.operation")
+                .tags("operation", operation, "outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private static RefreshToken token(boolean revoked, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .tokenHash(new byte[32])
+                .issuedAt(expiresAt.minusDays(7))
+                .expiresAt(expiresAt)
+                .revoked(revoked)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.dialog.token.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.dialog.token.domain.RefreshTokenSnapshot;
+import com.dialog.token.domain.TokenDigest;
+import com.dialog.user.domain.MeetUser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 리프레시 토큰 검증 캐시: 적중/실패 메트릭, 재확인 주기, 무효화된 항목을 재확인 결과가 되살리지 않음
+ */
+class RefreshTokenCacheTest {
+
+    private static final TokenDigest KEY = TokenDigest.of("token");
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void publishesHitMissAndSizeMetrics() {
+        RefreshTokenCache cache = cache(Duration.ofSeconds(5));
+
+        cache.get(KEY, key -> snapshot(false, System.nanoTime()));
+        cache.get(KEY, key -> snapshot(false, System.nanoTime()));
+        cache.get(TokenDigest.of("unknown"), key -> null);
+
+        assertThat(registry.get("cache.gets").tags("cache", "refresh_token", "result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("cache", "refresh_token", "result", "miss")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.size").tag("cache", "refresh_token").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyUnrevokedEntriesOlderThanIntervalNeedRecheck() {
+        RefreshTokenCache cache = cache(Duration.ofMinutes(1));
+        long now = System.nanoTime();
+
+        assertThat(cache.needsRevocationCheck(snapshot(false, now))).isFalse();
+        assertThat(cache.needsRevocationCheck(snapshot(false, now - Duration.ofMinutes(2).toNanos()))).isTrue();
+        assertThat(cache.needsRevocationCheck(snapshot(true, now - Duration.ofMinutes(2).toNanos()))).isFalse();
+    }
+
+    @Test
+    void recheckDoesNotResurrectInvalidatedEntry() {
+        RefreshTokenCache cache = cache(Duration.ZERO);
+        RefreshTokenSnapshot loaded = cache.get(KEY, key -> snapshot(false, System.nanoTime()));
+
+        cache.invalidate(KEY); // 재확인 중에 이 노드에서 폐기
+        cache.replace(KEY, loaded, loaded.rechecked(false, System.nanoTime()));
+
+        RefreshTokenSnapshot reloaded = cache.get(KEY, key -> snapshot(true, System.nanoTime()));
+        assertThat(reloaded.revoked()).isTrue();
+    }
+
+    @Test
+    void entryLifetimeDoesNotOutliveToken() {
+        RefreshTokenCache cache = cache(Duration.ofSeconds(5));
+        MeetUser owner = new MeetUser();
+        owner.setId(1L);
+        cache.get(KEY, key -> new RefreshTokenSnapshot(1L, LocalDateTime.now().minusDays(7),
+                LocalDateTime.now().minusSeconds(1), "family", owner, false, System.nanoTime()));
+
+        RefreshTokenSnapshot reloaded = cache.get(KEY, key -> snapshot(true, System.nanoTime()));
+        assertThat(reloaded.revoked()).isTrue(); // 이미 만료된 토큰 항목은 수명 0 이라 다시 적재됨
+    }
+
+    private RefreshTokenCache cache(Duration revocationCheckInterval) {
+        return new RefreshTokenCache(1000, Duration.ofMinutes(5), revocationCheckInterval, registry);
+    }
+
+    private static RefreshTokenSnapshot snapshot(boolean revoked, long checkedAtNanos) {
+        MeetUser owner = new MeetUser();
+        owner.setId(1L);
+        return new RefreshTokenSnapshot(1L, LocalDateTime.now(), LocalDateTime.now().plusDays(7), "family", owner,
+                revoked, checkedAtNanos);
+    }
+}
@@ -0,0 +1,133 @@
+package com.dialog.token.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.token.repository.RefreshTokenRepository;
+import com.dialog.token.repository.RefreshTokenRepository.RefreshTokenExpiry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 만료 인덱스: 적재 창 안의 토큰만 추적하고, 지난 버킷만 id 로 삭제하며, 창 끝이 가까우면 다음 범위를 이어서 적재
+ */
+class RefreshTokenExpiryWheelTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    // deleteAllByIdInBatch 에 넘긴 리스트는 호출 뒤 비워지므로 호출 시점에 복사
+    private final List<Long> deleted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(refreshTokenRepository.findExpiryEntriesBetween(any(), any(), any(), anyLong(), any()))
+                .thenReturn(List.of());
+        doAnswer(invocation -> deleted.addAll(invocation.<List<Long>>getArgument(0)))
+                .when(refreshTokenRepository).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void firesOnlyTrackedTokensWhoseBucketHasPassed() {
+        RefreshTokenExpiryWheel wheel = wheel(Duration.ofMinutes(1), Duration.ofHours(1));
+        wheel.run(null);
+        LocalDateTime now = LocalDateTime.now();
+        wheel.track(1L, now.minusMinutes(5));
+        wheel.track(2L, now.minusMinutes(3));
+        wheel.track(3L, now.plusMinutes(30));
+
+        assertThat(wheel.fireExpired()).isEqualTo(2);
+        assertThat(deleted).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.fireExpired()).isZero(); // 버킷은 한 번만 발화
+    }
+
+    @Test
+    void ignoresTokensOutsideLoadedWindow() {
+        RefreshTokenExpiryWheel wheel = wheel(Duration.ofMinutes(1), Duration.ofHours(1));
+        wheel.track(1L, LocalDateTime.now().minusMinutes(5)); // 첫 적재 전: 등록하지 않음
+        wheel.run(null);
+
+        assertThat(wheel.fireExpired()).isZero();
+        verify(refreshTokenRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void startupLoadPagesWithKeysetOverUpcomingWindowOnly() {
+        LocalDateTime base = LocalDateTime.now().plusMinutes(10);
+        List<RefreshTokenExpiry> fullPage = LongStream.rangeClosed(1, 10_000)
+                .mapToObj(id -> expiry(id, base.plusNanos(id * 1_000_000L)))
+                .toList();
+        when(refreshTokenRepository.findExpiryEntriesBetween(any(), any(), any(), anyLong(), any()))
+                .thenReturn(fullPage, List.of());
+        RefreshTokenExpiryWheel wheel = wheel(Duration.ofMinutes(1), Duration.ofHours(1));
+
+        wheel.run(null);
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> afterExpiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Long> afterId = ArgumentCaptor.forClass(Long.class);
+        verify(refreshTokenRepository, times(2)).findExpiryEntriesBetween(from.capture(), until.capture(),
+                afterExpiresAt.capture(), afterId.capture(), any());
+        assertThat(Duration.between(from.getValue(), until.getValue())).isEqualTo(Duration.ofHours(1));
+        assertThat(afterId.getAllValues()).containsExactly(0L, 10_000L);
+        assertThat(afterExpiresAt.getAllValues().get(1)).isEqualTo(fullPage.get(9_999).getExpiresAt());
+    }
+
+    @Test
+    void extendsWindowWhenLessThanHalfHorizonRemains() throws InterruptedException {
+        RefreshTokenExpiryWheel wheel = wheel(Duration.ofMillis(100), Duration.ofMillis(200));
+        wheel.run(null);
+        TimeUnit.MILLISECONDS.sleep(150);
+
+        wheel.fireExpired();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(refreshTokenRepository, times(2)).findExpiryEntriesBetween(from.capture(), until.capture(),
+                any(), anyLong(), any());
+        assertThat(from.getAllValues().get(1)).isEqualTo(until.getAllValues().get(0)); // 이어서 적재, 겹침 없음
+        assertThat(until.getAllValues().get(1)).isAfter(until.getAllValues().get(0));
+    }
+
+    private RefreshTokenExpiryWheel wheel(Duration tick, Duration horizon) {
+        RefreshTokenCache cache = new RefreshTokenCache(1000, Duration.ofMinutes(5), Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+        return new RefreshTokenExpiryWheel(refreshTokenRepository, cache, transactionTemplate, tick, horizon, 1000);
+    }
+
+    private static RefreshTokenExpiry expiry(long id, LocalDateTime expiresAt) {
+        return new RefreshTokenExpiry() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.dialog.token.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.token.repository.RefreshTokenRepository;
+import com.dialog.token.service.RefreshTokenPurger.PurgeResult;
+
+/**
+ * 만료 토큰 청크 삭제: chunk-size 만큼 id 를 읽어 IN 절 DELETE, 덜 찬 청크에서 종료, 시간 예산 초과 시 중단
+ */
+class RefreshTokenPurgerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private final List<Long> expired = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(refreshTokenRepository.findExpiredIds(eq(NOW), any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable page = invocation.getArgument(1);
+            return new ArrayList<>(expired.subList(0, Math.min(page.getPageSize(), expired.size())));
+        });
+        doAnswer(invocation -> {
+            expired.removeAll(invocation.<List<Long>>getArgument(0));
+            return null;
+        }).when(refreshTokenRepository).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void deletesInChunksUntilPartialChunk() {
+        givenExpired(2500);
+
+        PurgeResult result = purger(1000, Duration.ofSeconds(30)).purgeExpired(NOW);
+
+        assertThat(result.deleted()).isEqualTo(2500);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.completed()).isTrue();
+        assertThat(expired).isEmpty();
+        ArgumentCaptor<List<Long>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(refreshTokenRepository, times(3)).deleteAllByIdInBatch(deleted.capture());
+        assertThat(deleted.getAllValues()).extracting(List::size).containsExactly(1000, 1000, 500);
+    }
+
+    @Test
+    void exactMultipleOfChunkSizeEndsWithEmptyChunk() {
+        givenExpired(2000);
+
+        PurgeResult result = purger(1000, Duration.ofSeconds(30)).purgeExpired(NOW);
+
+        assertThat(result.deleted()).isEqualTo(2000);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.completed()).isTrue();
+        verify(refreshTokenRepository, times(2)).deleteAllByIdInBatch(anyList()); // 빈 청크는 DELETE 없음
+    }
+
+    @Test
+    void stopsWhenTimeBudgetIsSpentAndLeavesRestForNextRun() {
+        givenExpired(2500);
+
+        PurgeResult result = purger(1000, Duration.ZERO).purgeExpired(NOW);
+
+        assertThat(result.deleted()).isEqualTo(1000);
+        assertThat(result.chunks()).isEqualTo(1);
+        assertThat(result.completed()).isFalse();
+        assertThat(expired).hasSize(1500);
+    }
+
+    private RefreshTokenPurger purger(int chunkSize, Duration timeBudget) {
+        return new RefreshTokenPurger(refreshTokenRepository, transactionTemplate, chunkSize, Duration.ZERO, timeBudget);
+    }
+
+    private void givenExpired(int count) {
+        LongStream.rangeClosed(1, count).forEach(expired::add);
+    }
+}
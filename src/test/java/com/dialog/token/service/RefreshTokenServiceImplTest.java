@@ -0,0 +1,222 @@
+package com.dialog.token.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dialog.audit.service.AuditEventPublisher;
+import com.dialog.datasource.ReplicaReadGuard;
+import com.dialog.exception.RefreshTokenExpiredException;
+import com.dialog.exception.RefreshTokenReusedException;
+import com.dialog.exception.RefreshTokenRevokedException;
+import com.dialog.security.jwt.TokenEpochCache;
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.RefreshTokenRotation;
+import com.dialog.token.domain.RefreshTokenUserView;
+import com.dialog.token.domain.RevokedRefreshToken;
+import com.dialog.token.domain.TokenDigest;
+import com.dialog.token.store.RefreshTokenStore;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.UserRole;
+import com.dialog.user.repository.MeetUserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 토큰 회전: 조건부 UPDATE(CAS) 성공 시 같은 패밀리로 후속 발급, 실패 시 재사용 감지/만료 구분
+ * 검증 캐시: 적중 시 저장소 조회 없음, 이 노드의 폐기는 즉시 반영, 다른 노드의 폐기는 재확인 주기마다 반영
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+
+    private static final String OLD_TOKEN = "old-token";
+    private static final String FAMILY = "family-1";
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private MeetUserRepository meetUserRepository;
+
+    @Mock
+    private TokenEpochCache tokenEpochCache;
+
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = service(Duration.ofMinutes(1));
+    }
+
+    private RefreshTokenServiceImpl service(Duration revocationCheckInterval) {
+        ReplicaReadGuard replicaReadGuard = new ReplicaReadGuard(false, Duration.ofSeconds(2), 1000, Duration.ofSeconds(30));
+        RefreshTokenCache cache = new RefreshTokenCache(1000, Duration.ofMinutes(5), revocationCheckInterval,
+                new SimpleMeterRegistry());
+        return new RefreshTokenServiceImpl(refreshTokenStore, cache, meetUserRepository, tokenEpochCache,
+                Optional.empty(), replicaReadGuard, auditEventPublisher);
+    }
+
+    @Test
+    void rotateRevokesOldTokenAndIssuesSuccessorInSameFamily() {
+        givenStoredToken(LocalDateTime.now().plusDays(1));
+        when(refreshTokenStore.revokeIfActive(eq(TokenDigest.of(OLD_TOKEN)), any())).thenReturn(1);
+        givenSaveAssignsId();
+
+        RefreshTokenRotation rotation = refreshTokenService.rotate(OLD_TOKEN);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenStore).save(saved.capture());
+        assertThat(saved.getValue().getFamilyId()).isEqualTo(FAMILY);
+        assertThat(saved.getValue().getUser().getId()).isEqualTo(1L);
+        assertThat(saved.getValue().isRevoked()).isFalse();
+        assertThat(rotation.refreshToken()).isNotBlank().isNotEqualTo(OLD_TOKEN);
+        assertThat(TokenDigest.of(rotation.refreshToken()).bytes()).isEqualTo(saved.getValue().getTokenHash());
+        assertThat(rotation.user().id()).isEqualTo(1L);
+        verify(refreshTokenStore, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    void secondRotationWithSameTokenIsTreatedAsReuseAndRevokesFamily() {
+        givenStoredToken(LocalDateTime.now().plusDays(1));
+        AtomicBoolean active = new AtomicBoolean(true);
+        when(refreshTokenStore.revokeIfActive(eq(TokenDigest.of(OLD_TOKEN)), any()))
+                .thenAnswer(invocation -> active.compareAndSet(true, false) ? 1 : 0);
+        givenSaveAssignsId();
+
+        refreshTokenService.rotate(OLD_TOKEN);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(OLD_TOKEN))
+                .isSameAs(RefreshTokenReusedException.INSTANCE);
+        verify(refreshTokenStore).revokeFamily(FAMILY);
+    }
+
+    @Test
+    void rotateOfExpiredTokenFailsWithoutRevokingFamily() {
+        givenStoredToken(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenStore.revokeIfActive(eq(TokenDigest.of(OLD_TOKEN)), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(OLD_TOKEN))
+                .isSameAs(RefreshTokenExpiredException.INSTANCE);
+        verify(refreshTokenStore, never()).revokeFamily(anyString());
+        verify(refreshTokenStore, never()).save(any());
+    }
+
+    @Test
+    void cacheHitAnswersWithoutStoreRoundTrip() {
+        givenStoredRefreshToken(false);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(refreshTokenService.verifyTokenValidity(OLD_TOKEN).getFamilyId()).isEqualTo(FAMILY);
+        }
+
+        verify(refreshTokenStore, times(1)).findByDigest(TokenDigest.of(OLD_TOKEN));
+        verify(refreshTokenStore, never()).findRevokedByDigest(any());
+    }
+
+    @Test
+    void revokeOnThisNodeInvalidatesCachedEntryImmediately() {
+        givenStoredRefreshToken(false);
+        refreshTokenService.verifyTokenValidity(OLD_TOKEN);
+        when(refreshTokenStore.revoke(TokenDigest.of(OLD_TOKEN)))
+                .thenReturn(Optional.of(new RevokedRefreshToken(1L, FAMILY)));
+
+        assertThat(refreshTokenService.revokeToken(OLD_TOKEN)).isEqualTo(1);
+        givenStoredRefreshToken(true);
+
+        assertThatThrownBy(() -> refreshTokenService.verifyTokenValidity(OLD_TOKEN))
+                .isSameAs(RefreshTokenRevokedException.INSTANCE);
+        verify(refreshTokenStore, times(2)).findByDigest(TokenDigest.of(OLD_TOKEN));
+    }
+
+    @Test
+    void revokeOnAnotherNodeIsSeenAtNextRevocationCheck() {
+        refreshTokenService = service(Duration.ZERO);
+        givenStoredRefreshToken(false);
+        when(refreshTokenStore.findRevokedByDigest(TokenDigest.of(OLD_TOKEN)))
+                .thenReturn(Optional.of(false), Optional.of(true));
+
+        refreshTokenService.verifyTokenValidity(OLD_TOKEN);  // 적재 직후: 재확인
+        assertThatThrownBy(() -> refreshTokenService.verifyTokenValidity(OLD_TOKEN))
+                .isSameAs(RefreshTokenRevokedException.INSTANCE);
+        assertThatThrownBy(() -> refreshTokenService.verifyTokenValidity(OLD_TOKEN))
+                .isSameAs(RefreshTokenRevokedException.INSTANCE);
+
+        verify(refreshTokenStore, times(1)).findByDigest(TokenDigest.of(OLD_TOKEN));
+        verify(refreshTokenStore, times(2)).findRevokedByDigest(TokenDigest.of(OLD_TOKEN)); // 폐기 확인 후에는 다시 읽지 않음
+    }
+
+    @Test
+    void tokenDeletedElsewhereIsDroppedAtRevocationCheck() {
+        refreshTokenService = service(Duration.ZERO);
+        givenStoredRefreshToken(false);
+        when(refreshTokenStore.findRevokedByDigest(TokenDigest.of(OLD_TOKEN))).thenReturn(Optional.empty());
+
+        assertThat(refreshTokenService.findByToken(OLD_TOKEN)).isEmpty();
+    }
+
+    @Test
+    void revokeAllByUserBumpsEpochAndDropsCachedTokensOfThatUser() {
+        givenStoredRefreshToken(false);
+        refreshTokenService.verifyTokenValidity(OLD_TOKEN);
+        when(refreshTokenStore.revokeAllByUser(1L)).thenReturn(3);
+
+        assertThat(refreshTokenService.revokeAllByUser(1L)).isEqualTo(3);
+        givenStoredRefreshToken(true);
+
+        verify(meetUserRepository).incrementTokenVersion(1L);
+        verify(tokenEpochCache).invalidate(1L);
+        assertThatThrownBy(() -> refreshTokenService.verifyTokenValidity(OLD_TOKEN))
+                .isSameAs(RefreshTokenRevokedException.INSTANCE);
+    }
+
+    private void givenStoredRefreshToken(boolean revoked) {
+        MeetUser owner = new MeetUser();
+        owner.setId(1L);
+        when(refreshTokenStore.findByDigest(TokenDigest.of(OLD_TOKEN))).thenReturn(Optional.of(RefreshToken.builder()
+                .id(100L)
+                .tokenHash(TokenDigest.of(OLD_TOKEN).bytes())
+                .issuedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .revoked(revoked)
+                .familyId(FAMILY)
+                .user(owner)
+                .build()));
+    }
+
+    private void givenStoredToken(LocalDateTime expiresAt) {
+        when(refreshTokenStore.findUserViewByDigest(TokenDigest.of(OLD_TOKEN))).thenReturn(Optional.of(
+                new RefreshTokenUserView(false, expiresAt, FAMILY, 1L, "user@dialog.com", "사용자", UserRole.USER)));
+    }
+
+    private void givenSaveAssignsId() {
+        MeetUser owner = new MeetUser();
+        owner.setId(1L);
+        when(meetUserRepository.getReferenceById(1L)).thenReturn(owner);
+        when(refreshTokenStore.save(any())).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            token.setId(100L);
+            return token;
+        });
+    }
+}
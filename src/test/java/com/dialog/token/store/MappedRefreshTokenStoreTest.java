@@ -0,0 +1,225 @@
+package com.dialog.token.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.dialog.token.domain.RefreshToken;
+import com.dialog.token.domain.RevokedRefreshToken;
+import com.dialog.token.domain.TokenDigest;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+/**
+ * 메모리 맵 저장소: 조회/폐기/회전 CAS, 회전 보상(undoRevoke), 압축, 재시작 후 복원
+ * - 압축은 매핑 중인 파일을 덮어쓰지 않고 다음 세대 파일 + 포인터 교체로 전환한다
+ */
+class MappedRefreshTokenStoreTest {
+
+    private static final long USER_ID = 7L;
+
+    @TempDir
+    Path dir;
+
+    private final MeetUserRepository meetUserRepository = mock(MeetUserRepository.class);
+
+    private MappedRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(meetUserRepository.getReferenceById(anyLong())).thenAnswer(invocation -> user());
+        store = open(16);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.destroy();
+    }
+
+    @Test
+    void savedTokenIsFoundByDigest() {
+        String family = UUID.randomUUID().toString();
+        save("token", family, LocalDateTime.now().plusDays(1));
+
+        RefreshToken found = store.findByDigest(TokenDigest.of("token")).orElseThrow();
+        assertThat(found.getFamilyId()).isEqualTo(family);
+        assertThat(found.getUser().getId()).isEqualTo(USER_ID);
+        assertThat(found.isRevoked()).isFalse();
+        assertThat(store.findRevokedByDigest(TokenDigest.of("token"))).contains(false);
+        assertThat(store.findByDigest(TokenDigest.of("unknown"))).isEmpty();
+        assertThat(store.findRevokedByDigest(TokenDigest.of("unknown"))).isEmpty();
+    }
+
+    @Test
+    void revokeReturnsOwnerOnlyOnFirstCall() {
+        String family = UUID.randomUUID().toString();
+        save("token", family, LocalDateTime.now().plusDays(1));
+
+        assertThat(store.revoke(TokenDigest.of("token"))).contains(new RevokedRefreshToken(USER_ID, family));
+        assertThat(store.revoke(TokenDigest.of("token"))).isEmpty();
+        assertThat(store.findRevokedByDigest(TokenDigest.of("token"))).contains(true);
+    }
+
+    @Test
+    void revokeIfActiveIsCompareAndSet() {
+        LocalDateTime now = LocalDateTime.now();
+        save("active", null, now.plusDays(1));
+        save("expired", null, now.minusSeconds(1));
+
+        assertThat(store.revokeIfActive(TokenDigest.of("active"), now)).isEqualTo(1);
+        assertThat(store.revokeIfActive(TokenDigest.of("active"), now)).isZero();
+        assertThat(store.revokeIfActive(TokenDigest.of("expired"), now)).isZero();
+        assertThat(store.findRevokedByDigest(TokenDigest.of("expired"))).contains(false);
+    }
+
+    @Test
+    void undoRevokeRestoresRotatedToken() {
+        save("token", null, LocalDateTime.now().plusDays(1));
+        store.revokeIfActive(TokenDigest.of("token"), LocalDateTime.now());
+
+        store.undoRevoke(TokenDigest.of("token"));
+
+        assertThat(store.findRevokedByDigest(TokenDigest.of("token"))).contains(false);
+        assertThat(store.revokeIfActive(TokenDigest.of("token"), LocalDateTime.now())).isEqualTo(1); // 재시도 가능
+    }
+
+    @Test
+    void undoRevokeKeepsTokenRevokedByAnotherPath() {
+        String family = UUID.randomUUID().toString();
+        save("token", family, LocalDateTime.now().plusDays(1));
+        store.revokeIfActive(TokenDigest.of("token"), LocalDateTime.now());
+        store.revokeFamily(family); // 그 사이 재사용 감지 등으로 패밀리 폐기
+
+        store.undoRevoke(TokenDigest.of("token"));
+
+        assertThat(store.findRevokedByDigest(TokenDigest.of("token"))).contains(true);
+    }
+
+    @Test
+    void undoRevokeDoesNotRestoreLoggedOutToken() {
+        save("token", null, LocalDateTime.now().plusDays(1));
+        store.revoke(TokenDigest.of("token"));
+
+        store.undoRevoke(TokenDigest.of("token"));
+
+        assertThat(store.findRevokedByDigest(TokenDigest.of("token"))).contains(true);
+    }
+
+    @Test
+    void purgeCompactsExpiredRecordsAndKeepsLiveState() {
+        LocalDateTime now = LocalDateTime.now();
+        save("expired-1", null, now.minusMinutes(2));
+        save("live", null, now.plusDays(1));
+        save("expired-2", null, now.minusMinutes(1));
+        save("revoked", null, now.plusDays(1));
+        store.revoke(TokenDigest.of("revoked"));
+
+        assertThat(store.purgeExpired(now)).isEqualTo(2);
+
+        assertThat(store.findByDigest(TokenDigest.of("expired-1"))).isEmpty();
+        assertThat(store.findByDigest(TokenDigest.of("expired-2"))).isEmpty();
+        assertThat(store.findRevokedByDigest(TokenDigest.of("live"))).contains(false);
+        assertThat(store.findRevokedByDigest(TokenDigest.of("revoked"))).contains(true);
+        assertThat(store.countLive(now).active()).isEqualTo(1);
+        assertThat(store.countLive(now).revoked()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenExpiringExactlyNowIsExpiredEverywhere() {
+        LocalDateTime now = LocalDateTime.now();
+        save("boundary", null, now);
+
+        assertThat(store.revokeIfActive(TokenDigest.of("boundary"), now)).isZero();
+        assertThat(store.countLive(now).active()).isZero();
+        assertThat(store.purgeExpired(now)).isEqualTo(1); // 집계에서 빠진 레코드는 압축에서도 지운다
+    }
+
+    @Test
+    void compactionSwitchesToNextGenerationFile() throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        save("expired", null, now.minusMinutes(1));
+        save("live", null, now.plusDays(1));
+
+        store.purgeExpired(now);
+        store.purgeExpired(now);
+
+        assertThat(Files.readString(dir.resolve("refresh-tokens.current")).trim()).isEqualTo("2");
+        assertThat(dir.resolve("refresh-tokens.2.dat")).exists();
+        assertThat(dir.resolve("refresh-tokens.dat")).doesNotExist();  // 이전 세대 정리
+        assertThat(dir.resolve("refresh-tokens.1.dat")).doesNotExist();
+
+        store.destroy();
+        store = open(16); // 포인터가 가리키는 세대로 다시 연다
+
+        assertThat(store.findRevokedByDigest(TokenDigest.of("live"))).contains(false);
+        assertThat(store.findByDigest(TokenDigest.of("expired"))).isEmpty();
+    }
+
+    @Test
+    void fullStoreCompactsBeforeRejecting() throws IOException {
+        MappedRefreshTokenStore small = new MappedRefreshTokenStore(meetUserRepository,
+                dir.resolve("small").toString(), 2, false);
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            small.save(token("expired", null, now.minusSeconds(1)));
+            small.save(token("live-1", null, now.plusDays(1)));
+
+            small.save(token("live-2", null, now.plusDays(1))); // 만료분을 압축해 자리를 만든다
+
+            assertThat(small.findByDigest(TokenDigest.of("expired"))).isEmpty();
+            assertThat(small.findByDigest(TokenDigest.of("live-2"))).isPresent();
+            assertThatThrownBy(() -> small.save(token("live-3", null, now.plusDays(1))))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            small.destroy();
+        }
+    }
+
+    @Test
+    void recordsSurviveReopen() throws IOException {
+        save("token", null, LocalDateTime.now().plusDays(1));
+        store.revoke(TokenDigest.of("token"));
+
+        store.destroy();
+        store = open(16); // 파일을 다시 훑어 인덱스 재구성
+
+        assertThat(store.findRevokedByDigest(TokenDigest.of("token"))).contains(true);
+    }
+
+    private MappedRefreshTokenStore open(int capacity) {
+        return new MappedRefreshTokenStore(meetUserRepository, dir.toString(), capacity, false);
+    }
+
+    private void save(String token, String familyId, LocalDateTime expiresAt) {
+        store.save(token(token, familyId, expiresAt));
+    }
+
+    private static RefreshToken token(String token, String familyId, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .tokenHash(TokenDigest.of(token).bytes())
+                .issuedAt(expiresAt.minusDays(7))
+                .expiresAt(expiresAt)
+                .familyId(familyId)
+                .user(user())
+                .build();
+    }
+
+    private static MeetUser user() {
+        MeetUser user = new MeetUser();
+        user.setId(USER_ID);
+        return user;
+    }
+}
@@ -0,0 +1,126 @@
+package com.dialog.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.user.domain.MeetUser;
+
+/**
+ * 소셜 최초 로그인 INSERT ... ON DUPLICATE KEY: 동시 요청에도 예외 없이 한 행만 생긴다
+ * - 네이티브 INSERT 용 nextId() 와 JPA 저장이 같은 풀링 시퀀스를 나눠 쓴다
+ * - 네이티브 문법 때문에 설정의 H2(MODE=MySQL) 를 그대로 쓰고, 스레드마다 트랜잭션을 따로 커밋한다
+ * - 커밋된 행은 공유 testdb 에 남으므로 테스트마다 지운다
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MeetUserRepositoryTest {
+
+    @Autowired
+    private MeetUserRepository meetUserRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from meet_user where email in ('race@kakao.com', 'local@dialog.com')"
+                + " or email like 'pooled-%@dialog.com'");
+    }
+
+    @Test
+    void concurrentFirstSocialLoginsCreateOneRow() throws Exception {
+        int threads = 8;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return transactionTemplate.execute(status -> meetUserRepository.insertSocialUserIfAbsent(
+                            meetUserRepository.nextId(), "race@kakao.com", "{social}", "경합",
+                            "kakao", "race-1", null));
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                future.get(30, TimeUnit.SECONDS); // 유니크 제약 위반이 나면 여기서 ExecutionException
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "select count(*) from meet_user where social_type = 'kakao' and sns_id = 'race-1'", Integer.class);
+        assertThat(rows).isEqualTo(1);
+        assertThat(meetUserRepository.findBySocialTypeAndSnsId("kakao", "race-1"))
+                .map(MeetUser::getEmail)
+                .contains("race@kakao.com");
+    }
+
+    @Test
+    void socialInsertSkipsExistingEmail() {
+        meetUserRepository.saveAndFlush(MeetUser.builder()
+                .email("local@dialog.com")
+                .password("{noop}secret")
+                .name("일반")
+                .build());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.execute(status -> meetUserRepository.insertSocialUserIfAbsent(
+                meetUserRepository.nextId(), "local@dialog.com", "{social}", "소셜", "google", "local-1", null));
+
+        // 같은 이메일의 일반 계정이 있으면 새 행을 만들지 않는다 (서비스는 연결하지 않고 409 로 거절)
+        assertThat(meetUserRepository.findBySocialTypeAndSnsId("google", "local-1")).isEmpty();
+        assertThat(meetUserRepository.findByEmail("local@dialog.com"))
+                .map(MeetUser::getSnsId)
+                .isEmpty();
+    }
+
+    @Test
+    void nativeAndJpaInsertsShareThePooledSequence() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Long> allocated = new ArrayList<>();
+            allocated.add(meetUserRepository.nextId());
+            for (int i = 0; i < 60; i++) { // 할당 단위(50)를 넘겨 다음 블록까지
+                allocated.add(meetUserRepository.save(MeetUser.builder()
+                        .email("pooled-" + i + "@dialog.com")
+                        .password("{noop}secret")
+                        .name("풀링")
+                        .build()).getId());
+            }
+            allocated.add(meetUserRepository.nextId());
+            return allocated;
+        });
+
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+        Integer rows = jdbcTemplate.queryForObject(
+                "select count(*) from meet_user where email like 'pooled-%@dialog.com'", Integer.class);
+        assertThat(rows).isEqualTo(60);
+    }
+}
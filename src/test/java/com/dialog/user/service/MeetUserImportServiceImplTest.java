@@ -0,0 +1,119 @@
+package com.dialog.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.security.AsyncPasswordHasher;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.UserImportEvent;
+import com.dialog.user.domain.UserImportFormat;
+import com.dialog.user.repository.MeetUserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+
+/**
+ * 일괄 가져오기: 배치 저장이 UNIQUE 위반으로 실패하면 행 단위로 다시 저장해 나머지는 가입시키고 충돌 행만 중복으로 보고
+ */
+@ExtendWith(MockitoExtension.class)
+class MeetUserImportServiceImplTest {
+
+    private static final String CSV = """
+            email,password,name
+            a@dialog.com,password-a1,가
+            b@dialog.com,password-b1,나
+            c@dialog.com,password-c1,다
+            """;
+
+    @Mock
+    private MeetUserRepository meetUserRepository;
+
+    @Mock
+    private MeetUserLookupCache meetUserLookupCache;
+
+    @Mock
+    private AsyncPasswordHasher asyncPasswordHasher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MeetUserImportServiceImpl importService;
+
+    private final List<UserImportEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importService = new MeetUserImportServiceImpl(meetUserRepository, meetUserLookupCache, asyncPasswordHasher,
+                transactionTemplate, Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 500);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(meetUserRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(asyncPasswordHasher.encodeAll(anyList()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream().map(raw -> "{hash}" + raw).toList());
+    }
+
+    @Test
+    void batchConflictFallsBackToRowInsertsAndReportsOnlyConflictingRow() throws Exception {
+        when(meetUserRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("uk_meet_user_email"));
+        when(meetUserRepository.save(any(MeetUser.class))).thenAnswer(invocation -> {
+            MeetUser user = invocation.getArgument(0);
+            if (user.getEmail().equals("b@dialog.com")) {
+                throw new DataIntegrityViolationException("uk_meet_user_email"); // 그 사이 동시 가입
+            }
+            return user;
+        });
+
+        UserImportEvent done = importService.importUsers(new StringReader(CSV), UserImportFormat.CSV, events::add);
+
+        assertThat(done.processed()).isEqualTo(3);
+        assertThat(done.imported()).isEqualTo(2);
+        assertThat(done.duplicates()).isEqualTo(1);
+        assertThat(done.failed()).isZero();
+        assertThat(events).filteredOn(event -> "error".equals(event.type()))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.line()).isEqualTo(3);
+                    assertThat(event.email()).isEqualTo("b@dialog.com");
+                });
+        ArgumentCaptor<MeetUser> evicted = ArgumentCaptor.forClass(MeetUser.class);
+        verify(meetUserLookupCache, times(2)).evict(evicted.capture());
+        assertThat(evicted.getAllValues()).extracting(MeetUser::getEmail)
+                .containsExactly("a@dialog.com", "c@dialog.com");
+    }
+
+    @Test
+    void batchWithoutConflictIsSavedOnce() throws Exception {
+        when(meetUserRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserImportEvent done = importService.importUsers(new StringReader(CSV), UserImportFormat.CSV, events::add);
+
+        assertThat(done.imported()).isEqualTo(3);
+        assertThat(done.duplicates()).isZero();
+        verify(meetUserRepository, never()).save(any(MeetUser.class));
+    }
+}
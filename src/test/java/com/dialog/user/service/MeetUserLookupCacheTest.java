@@ -0,0 +1,115 @@
+package com.dialog.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.dialog.datasource.ReplicaReadGuard;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 사용자 조회 캐시: "없음" 결과의 짧은 캐시, evict 후 재조회, 캐시별 Micrometer 지표
+ */
+class MeetUserLookupCacheTest {
+
+    private static final String EMAIL = "user@dialog.com";
+
+    private final MeetUserRepository meetUserRepository = mock(MeetUserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MeetUserLookupCache cache = new MeetUserLookupCache(meetUserRepository,
+            new ReplicaReadGuard(false, Duration.ofSeconds(2), 1000, Duration.ofSeconds(30)),
+            100, Duration.ofMinutes(5), Duration.ofMillis(100), meterRegistry);
+
+    @Test
+    void missingEmailIsCachedUntilNegativeTtl() throws InterruptedException {
+        when(meetUserRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThat(cache.findByEmail(EMAIL)).isEmpty();
+        assertThat(cache.findByEmail(EMAIL)).isEmpty();
+        verify(meetUserRepository, times(1)).findByEmail(EMAIL);
+
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        assertThat(cache.findByEmail(EMAIL)).isEmpty();
+        verify(meetUserRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void presentUserOutlivesNegativeTtl() throws InterruptedException {
+        when(meetUserRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user()));
+        cache.findByEmail(EMAIL);
+
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        assertThat(cache.findByEmail(EMAIL)).isPresent();
+        verify(meetUserRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void existsByEmailReusesEmailLookup() {
+        when(meetUserRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user()));
+        cache.findByEmail(EMAIL);
+
+        assertThat(cache.existsByEmail(EMAIL)).isTrue();
+        verify(meetUserRepository, never()).existsByEmail(EMAIL);
+    }
+
+    @Test
+    void evictEmailDropsNegativeLookupAndExistence() {
+        when(meetUserRepository.existsByEmail(EMAIL)).thenReturn(false, true);
+        when(meetUserRepository.findByEmail(EMAIL)).thenReturn(Optional.empty(), Optional.of(user()));
+        assertThat(cache.existsByEmail(EMAIL)).isFalse();
+        assertThat(cache.findByEmail(EMAIL)).isEmpty();
+
+        cache.evictEmail(EMAIL); // 가입 직후
+
+        assertThat(cache.existsByEmail(EMAIL)).isTrue();
+        assertThat(cache.findByEmail(EMAIL)).isPresent();
+    }
+
+    @Test
+    void evictDropsSocialLookup() {
+        MeetUser user = user();
+        when(meetUserRepository.findBySocialTypeAndSnsId("google", "sns-1"))
+                .thenReturn(Optional.empty(), Optional.of(user));
+        cache.findBySocial("google", "sns-1");
+
+        cache.evict(user);
+
+        assertThat(cache.findBySocial("google", "sns-1")).containsSame(user);
+    }
+
+    @Test
+    void publishesHitAndMissPerCache() {
+        when(meetUserRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        cache.findByEmail(EMAIL);
+        cache.findByEmail(EMAIL);
+
+        assertThat(gets("user_email", "miss")).isEqualTo(1.0);
+        assertThat(gets("user_email", "hit")).isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "user_social").functionCounters()).isNotEmpty();
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "user_email_exists").functionCounters()).isNotEmpty();
+    }
+
+    private double gets(String cacheName, String result) {
+        return meterRegistry.get("cache.gets").tags("cache", cacheName, "result", result).functionCounter().count();
+    }
+
+    private static MeetUser user() {
+        MeetUser user = MeetUser.builder().email(EMAIL).name("가입자").socialType("google").snsId("sns-1").build();
+        user.setId(1L);
+        return user;
+    }
+}
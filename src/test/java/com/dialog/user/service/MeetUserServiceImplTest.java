@@ -0,0 +1,208 @@
+package com.dialog.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.audit.service.AuditEventPublisher;
+import com.dialog.datasource.ReplicaReadGuard;
+import com.dialog.exception.SocialAccountConflictException;
+import com.dialog.security.AsyncPasswordHasher;
+import com.dialog.token.service.RefreshTokenService;
+import com.dialog.user.domain.LoginDto;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.MeetUserDto;
+import com.dialog.user.domain.SocialProfile;
+import com.dialog.user.domain.UserRole;
+import com.dialog.user.repository.MeetUserRepository;
+
+/**
+ * 회원가입 중복 이메일: 사전 확인과 INSERT 경합(유니크 제약 위반) 모두 같은 "이미 가입된 이메일" 로 응답
+ * 로그인: 없는 이메일/비밀번호 없는 계정도 같은 비용의 해시 비교를 치르고 같은 메시지로 실패
+ */
+@ExtendWith(MockitoExtension.class)
+class MeetUserServiceImplTest {
+
+    private static final String EMAIL = "signup@dialog.com";
+
+    @Mock
+    private MeetUserRepository meetUserRepository;
+
+    @Mock
+    private MeetUserLookupCache meetUserLookupCache;
+
+    @Mock
+    private AsyncPasswordHasher asyncPasswordHasher;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private AuditEventPublisher auditEventPublisher;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    private MeetUserServiceImpl meetUserService;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaReadGuard replicaReadGuard = new ReplicaReadGuard(false, Duration.ofSeconds(2), 1000, Duration.ofSeconds(30));
+        meetUserService = new MeetUserServiceImpl(meetUserRepository, meetUserLookupCache, asyncPasswordHasher,
+                passwordEncoder, transactionTemplate, replicaReadGuard, auditEventPublisher,
+                refreshTokenService);
+    }
+
+    @Test
+    void signupRejectsEmailSeenByPreCheck() {
+        when(meetUserLookupCache.existsByEmail(EMAIL)).thenReturn(true);
+
+        assertThatThrownBy(() -> meetUserService.signup(signupRequest()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 가입된 이메일입니다.");
+        verify(asyncPasswordHasher, never()).encode(any());
+        verify(meetUserRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void signupLosingInsertRaceIsReportedAsDuplicateEmail() {
+        when(meetUserLookupCache.existsByEmail(EMAIL)).thenReturn(false);
+        when(asyncPasswordHasher.encode("password123")).thenReturn(CompletableFuture.completedFuture("{bcrypt}hash"));
+        when(meetUserRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_meet_user_email"));
+
+        assertThatThrownBy(() -> meetUserService.signup(signupRequest()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 가입된 이메일입니다.");
+        verify(meetUserLookupCache).evictEmail(EMAIL);
+    }
+
+    @Test
+    void signupStoresHashedPassword() {
+        when(meetUserLookupCache.existsByEmail(EMAIL)).thenReturn(false);
+        when(asyncPasswordHasher.encode("password123")).thenReturn(CompletableFuture.completedFuture("{bcrypt}hash"));
+        when(meetUserRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MeetUser saved = meetUserService.signup(signupRequest());
+
+        assertThat(saved.getEmail()).isEqualTo(EMAIL);
+        assertThat(saved.getPassword()).isEqualTo("{bcrypt}hash");
+        verify(meetUserLookupCache).evict(saved);
+    }
+
+    @Test
+    void loginWithUnknownEmailStillPaysForHashComparison() {
+        when(meetUserLookupCache.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        when(asyncPasswordHasher.matchesNothing("password123")).thenReturn(CompletableFuture.completedFuture(false));
+
+        assertThatThrownBy(() -> meetUserService.login(loginRequest()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이메일 또는 비밀번호가 올바르지 않습니다.");
+        verify(asyncPasswordHasher).matchesNothing("password123");
+        verify(asyncPasswordHasher, never()).matches(any(), any());
+    }
+
+    @Test
+    void loginToSocialOnlyAccountFailsLikeUnknownEmail() {
+        MeetUser user = MeetUser.builder().email(EMAIL).password("{social}").name("소셜").build();
+        user.setId(1L);
+        when(meetUserLookupCache.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(meetUserRepository.findPasswordById(1L)).thenReturn(Optional.of("{social}"));
+        when(asyncPasswordHasher.matchesNothing("password123")).thenReturn(CompletableFuture.completedFuture(false));
+
+        assertThatThrownBy(() -> meetUserService.login(loginRequest()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이메일 또는 비밀번호가 올바르지 않습니다.");
+        verify(asyncPasswordHasher, never()).matches(any(), any());
+    }
+
+    @Test
+    void loginWithKnownEmailComparesStoredHash() {
+        MeetUser user = MeetUser.builder().email(EMAIL).password("{bcrypt}hash").name("가입자").build();
+        user.setId(1L);
+        when(meetUserLookupCache.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(meetUserRepository.findPasswordById(1L)).thenReturn(Optional.of("{bcrypt}hash"));
+        when(asyncPasswordHasher.matches("password123", "{bcrypt}hash"))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        assertThat(meetUserService.login(loginRequest())).isSameAs(user);
+        verify(asyncPasswordHasher, never()).matchesNothing(any());
+    }
+
+    @Test
+    void socialLoginWithEmailOfExistingAccountIsRejectedNotLinked() {
+        // 같은 이메일의 일반 계정이 있어 INSERT 가 건너뛰어지고 (social_type, sns_id) 행도 없는 상황
+        SocialProfile profile = new SocialProfile("google", "sns-1", EMAIL, "공격자", null);
+
+        assertThatThrownBy(() -> meetUserService.upsertSocialUser(profile))
+                .isSameAs(SocialAccountConflictException.INSTANCE);
+        verify(meetUserRepository, never()).findByEmail(any());
+        verify(meetUserLookupCache, never()).evict(any());
+    }
+
+    @Test
+    void roleChangeRevokesAllTokensOfTheUser() {
+        MeetUser user = givenUserInTransaction(UserRole.ADMIN);
+
+        assertThat(meetUserService.changeRole(1L, UserRole.USER).getRole()).isEqualTo(UserRole.USER);
+
+        verify(meetUserRepository).saveAndFlush(user);
+        verify(refreshTokenService).revokeAllByUser(1L); // 토큰 에포크 증가 + 리프레시 토큰 폐기
+        verify(meetUserLookupCache).evict(user);
+    }
+
+    @Test
+    void unchangedRoleKeepsTokens() {
+        givenUserInTransaction(UserRole.ADMIN);
+
+        meetUserService.changeRole(1L, UserRole.ADMIN);
+
+        verify(refreshTokenService, never()).revokeAllByUser(any());
+        verify(meetUserRepository, never()).saveAndFlush(any());
+    }
+
+    private static LoginDto loginRequest() {
+        LoginDto dto = new LoginDto();
+        dto.setEmail(EMAIL);
+        dto.setPassword("password123");
+        return dto;
+    }
+
+    private static MeetUserDto signupRequest() {
+        MeetUserDto dto = new MeetUserDto();
+        dto.setEmail(EMAIL);
+        dto.setPassword("password123");
+        dto.setName("가입자");
+        dto.setTerms(true);
+        return dto;
+    }
+
+    private MeetUser givenUserInTransaction(UserRole role) {
+        MeetUser user = MeetUser.builder().email(EMAIL).password("{bcrypt}hash").name("가입자").build();
+        user.setId(1L);
+        user.setRole(role);
+        when(meetUserRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        return user;
+    }
+}